@@ -21,6 +21,16 @@ public interface SettingsManager {
      */
     long getCalcInterval();
 
+    /**
+     * The amount of time between full calculations of an island when running auto-calculations, in seconds.
+     * In between, auto-calculations use the tracked block counts of the island, without scanning its chunks.
+     * If set to 0, all auto-calculations will scan the chunks of the islands.
+     * Config path: full-calc-interval
+     */
+    default long getFullCalcInterval() {
+        return 0L;
+    }
+
     /**
      * All settings related to the database of the plugin.
      * Config path: database
@@ -1099,6 +1109,16 @@ public interface SettingsManager {
          */
         int getDefaultSize();
 
+        /**
+         * The amount of time island chests can be idle before their contents are unloaded, in seconds.
+         * When enabled, the contents of island chests are loaded only when the chests are accessed.
+         * If set to 0, the contents of all island chests are kept loaded.
+         * Config-path: island-chests.unload-idle-time
+         */
+        default long getUnloadIdleTime() {
+            return 0L;
+        }
+
     }
 
 
@@ -49,6 +49,15 @@ public interface BlockValuesManager {
      */
     void registerKeyParser(CustomKeyParser customKeyParser, Key... blockTypes);
 
+    /**
+     * Clear the cached values of blocks, so they will be resolved again when requested.
+     * Should be called when values are changed outside the plugin, for example when prices of the
+     * prices-provider are changed.
+     */
+    default void clearCachedValues() {
+
+    }
+
     enum SyncWorthStatus {
 
         NONE,
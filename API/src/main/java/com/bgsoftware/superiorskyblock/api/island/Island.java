@@ -103,6 +103,13 @@ public interface Island extends Comparable<Island>, IMissionsHolder {
      */
     List<SuperiorPlayer> getAllPlayersInside();
 
+    /**
+     * Get the amount of players that are on the island.
+     */
+    default int getAllPlayersInsideAmount() {
+        return getAllPlayersInside().size();
+    }
+
     /**
      * Get all the visitors that visited the island until now.
      */
@@ -684,6 +691,14 @@ public interface Island extends Comparable<Island>, IMissionsHolder {
      */
     void calcIslandWorth(@Nullable SuperiorPlayer asker, @Nullable Runnable callback);
 
+    /**
+     * Mark the island to scan all of its chunks in its next calculation.
+     * This should be called when blocks of the island were changed without being tracked by the plugin.
+     */
+    default void markForFullCalculation() {
+
+    }
+
     /**
      * Get the calculation algorithm used by this island.
      */
@@ -3,6 +3,7 @@ package com.bgsoftware.superiorskyblock.api.island.container;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.SortingType;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 
 import javax.annotation.Nullable;
@@ -71,6 +72,16 @@ public interface IslandsContainer {
     @Nullable
     Island getIslandAt(Location location);
 
+    /**
+     * Get an island at a chunk.
+     *
+     * @param chunk The chunk to get island in.
+     */
+    @Nullable
+    default Island getIslandAt(Chunk chunk) {
+        return getIslandAt(new Location(chunk.getWorld(), chunk.getX() << 4, 100, chunk.getZ() << 4));
+    }
+
     /**
      * Transfer an island from a player to another one.
      * Warning: If you don't know what you're doing, do not use this method.
@@ -89,6 +100,16 @@ public interface IslandsContainer {
      */
     void sortIslands(SortingType sortingType, @Nullable Runnable onFinish);
 
+    /**
+     * Notify the container that values of an island that are used for sorting were changed.
+     * Containers may re-sort only islands that were changed when sorting the islands.
+     *
+     * @param island The island that was changed.
+     */
+    default void notifyChange(Island island) {
+
+    }
+
     /**
      * Get all islands sorted by a specific sorting-type.
      *
@@ -78,6 +78,7 @@ public final class CmdAdminRecalc implements ISuperiorCommand {
             }
 
             Message.RECALC_PROCCESS_REQUEST.send(sender);
+            island.markForFullCalculation();
             island.calcIslandWorth(sender instanceof Player ? plugin.getPlayers().getSuperiorPlayer(sender) : null);
         }
     }
@@ -71,6 +71,7 @@ public final class SettingsContainer {
     public final String islandTopOrder;
     public final ConfigurationSection islandRolesSection;
     public final long calcInterval;
+    public final long fullCalcInterval;
     public final String signWarpLine;
     public final List<String> signWarp;
     public final String visitorsSignLine;
@@ -170,6 +171,7 @@ public final class SettingsContainer {
     public final String islandChestTitle;
     public final int islandChestsDefaultPage;
     public final int islandChestsDefaultSize;
+    public final long islandChestsUnloadIdleTime;
     public final Map<String, List<String>> commandAliases;
     public final KeySet valuableBlocks;
     public final Map<String, Location> islandPreviewLocations;
@@ -196,6 +198,7 @@ public final class SettingsContainer {
         databaseMySQLMaxLifetime = config.getLong("database.maxLifetime");
 
         calcInterval = config.getLong("calc-interval", 6000);
+        fullCalcInterval = config.getLong("full-calc-interval", 86400);
         islandCommand = config.getString("island-command", "island,is,islands");
         maxIslandSize = config.getInt("max-island-size", 200);
         defaultIslandSize = config.getInt("default-values.island-size", 20);
@@ -445,6 +448,7 @@ public final class SettingsContainer {
         islandChestTitle = StringUtils.translateColors(config.getString("island-chests.chest-title", "&4Island Chest"));
         islandChestsDefaultPage = config.getInt("island-chests.default-pages", 0);
         islandChestsDefaultSize = config.getInt("island-chests.default-size", 3);
+        islandChestsUnloadIdleTime = config.getLong("island-chests.unload-idle-time", 0);
         commandAliases = new HashMap<>();
         if (config.isConfigurationSection("command-aliases")) {
             for (String label : config.getConfigurationSection("command-aliases").getKeys(false)) {
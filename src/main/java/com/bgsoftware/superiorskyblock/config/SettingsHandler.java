@@ -93,6 +93,11 @@ public final class SettingsHandler extends AbstractHandler implements SettingsMa
         return this.container.calcInterval;
     }
 
+    @Override
+    public long getFullCalcInterval() {
+        return this.container.fullCalcInterval;
+    }
+
     @Override
     public Database getDatabase() {
         return this.database;
@@ -26,4 +26,9 @@ public final class IslandChestsSection implements SettingsManager.IslandChests {
         return this.container.islandChestsDefaultSize;
     }
 
+    @Override
+    public long getUnloadIdleTime() {
+        return this.container.islandChestsUnloadIdleTime;
+    }
+
 }
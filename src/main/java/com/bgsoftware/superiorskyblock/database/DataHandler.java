@@ -21,15 +21,23 @@ import com.bgsoftware.superiorskyblock.handler.HandlerLoadException;
 import com.bgsoftware.superiorskyblock.island.SPlayerRole;
 import com.bgsoftware.superiorskyblock.threads.Executor;
 import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.bukkit.Bukkit;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @SuppressWarnings("WeakerAccess")
 public final class DataHandler extends AbstractHandler {
 
+    private static final int LOADING_THREADS = 4;
+
     private final List<DatabaseLoader> databaseLoaders = new ArrayList<>();
 
     public DataHandler(SuperiorSkyblockPlugin plugin) {
@@ -65,8 +73,16 @@ public final class DataHandler extends AbstractHandler {
             SQLHelper.setJournalMode("MEMORY", QueryResult.EMPTY_QUERY_RESULT);
         }
 
-        loadPlayers();
-        loadIslands();
+        ExecutorService loadingExecutor = createLoadingExecutor();
+
+        try {
+            CompletableFuture<Void> playersFuture = loadPlayers(loadingExecutor);
+            loadIslands(loadingExecutor, playersFuture);
+        } finally {
+            if (loadingExecutor != null)
+                loadingExecutor.shutdown();
+        }
+
         loadGrid();
 
         if (!plugin.getFactory().hasCustomDatabaseBridge()) {
@@ -115,7 +131,17 @@ public final class DataHandler extends AbstractHandler {
         DatabaseLoader_V1.register(this);
     }
 
-    private void loadPlayers() {
+    @Nullable
+    private ExecutorService createLoadingExecutor() {
+        // Custom bridges and the single connection of SQLite cannot be used by multiple threads.
+        if (plugin.getFactory().hasCustomDatabaseBridge() || !SQLHelper.isRemote())
+            return null;
+
+        return Executors.newFixedThreadPool(LOADING_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("SuperiorSkyblock Loading Thread %d").build());
+    }
+
+    private CompletableFuture<Void> loadPlayers(@Nullable ExecutorService loadingExecutor) {
         SuperiorSkyblockPlugin.log("Starting to load players...");
 
         DatabaseBridge playersLoader = plugin.getFactory().createDatabaseBridge((SuperiorPlayer) null);
@@ -124,20 +150,22 @@ public final class DataHandler extends AbstractHandler {
         AtomicInteger playersCount = new AtomicInteger();
         long startTime = System.currentTimeMillis();
 
-        PlayersDeserializer.deserializeMissions(playersLoader, databaseCache);
-        PlayersDeserializer.deserializePlayerSettings(playersLoader, databaseCache);
+        return runAll(loadingExecutor,
+                () -> PlayersDeserializer.deserializeMissions(playersLoader, databaseCache),
+                () -> PlayersDeserializer.deserializePlayerSettings(playersLoader, databaseCache)
+        ).thenRunAsync(() -> {
+            playersLoader.loadAllObjects("players", resultSet -> {
+                plugin.getPlayers().loadPlayer(databaseCache, new DatabaseResult(resultSet));
+                playersCount.incrementAndGet();
+            });
 
-        playersLoader.loadAllObjects("players", resultSet -> {
-            plugin.getPlayers().loadPlayer(databaseCache, new DatabaseResult(resultSet));
-            playersCount.incrementAndGet();
-        });
-
-        long endTime = System.currentTimeMillis();
+            long endTime = System.currentTimeMillis();
 
-        SuperiorSkyblockPlugin.log("Finished loading " + playersCount.get() + " players (Took " + (endTime - startTime) + "ms)");
+            SuperiorSkyblockPlugin.log("Finished loading " + playersCount.get() + " players (Took " + (endTime - startTime) + "ms)");
+        }, getExecutor(loadingExecutor));
     }
 
-    private void loadIslands() {
+    private void loadIslands(@Nullable ExecutorService loadingExecutor, CompletableFuture<Void> playersFuture) {
         SuperiorSkyblockPlugin.log("Starting to load islands...");
 
         DatabaseBridge islandsLoader = plugin.getFactory().createDatabaseBridge((Island) null);
@@ -146,28 +174,39 @@ public final class DataHandler extends AbstractHandler {
         AtomicInteger islandsCount = new AtomicInteger();
         long startTime = System.currentTimeMillis();
 
-        IslandsDeserializer.deserializeIslandHomes(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeMembers(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeBanned(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializePlayerPermissions(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeRolePermissions(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeUpgrades(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeWarps(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeBlockLimits(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeRatings(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeMissions(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeIslandFlags(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeGenerators(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeVisitors(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeEntityLimits(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeEffects(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeIslandChest(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeRoleLimits(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeWarpCategories(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeIslandBank(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeVisitorHomes(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeIslandSettings(islandsLoader, databaseCache);
-        IslandsDeserializer.deserializeBankTransactions(islandsLoader, databaseCache);
+        // Every table is loaded into different fields of the cached infos, so they can be loaded at the same time.
+        CompletableFuture<Void> islandsDataFuture = runAll(loadingExecutor,
+                () -> IslandsDeserializer.deserializeIslandHomes(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeRolePermissions(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeUpgrades(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeWarps(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeBlockLimits(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeBlockCounts(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeRatings(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeMissions(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeIslandFlags(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeGenerators(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeEntityLimits(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeEntityCounts(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeEffects(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeIslandChest(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeRoleLimits(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeWarpCategories(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeIslandBank(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeVisitorHomes(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeIslandSettings(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeBankTransactions(islandsLoader, databaseCache)
+        );
+
+        // These tables refer to players, and therefore are loaded only after the players were loaded.
+        CompletableFuture<Void> islandsPlayersFuture = playersFuture.thenCompose(v -> runAll(loadingExecutor,
+                () -> IslandsDeserializer.deserializeMembers(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeBanned(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializePlayerPermissions(islandsLoader, databaseCache),
+                () -> IslandsDeserializer.deserializeVisitors(islandsLoader, databaseCache)
+        ));
+
+        join(CompletableFuture.allOf(islandsDataFuture, islandsPlayersFuture));
 
         islandsLoader.loadAllObjects("islands", resultSet -> {
             plugin.getGrid().createIsland(databaseCache, new DatabaseResult(resultSet));
@@ -179,7 +218,6 @@ public final class DataHandler extends AbstractHandler {
         SuperiorSkyblockPlugin.log("Finished loading " + islandsCount.get() + " islands (Took " + (endTime - startTime) + "ms)");
     }
 
-
     private void loadGrid() {
         SuperiorSkyblockPlugin.log("Starting to load grid...");
 
@@ -191,4 +229,29 @@ public final class DataHandler extends AbstractHandler {
         SuperiorSkyblockPlugin.log("Finished grid!");
     }
 
+    private static CompletableFuture<Void> runAll(@Nullable ExecutorService loadingExecutor, Runnable... tasks) {
+        java.util.concurrent.Executor executor = getExecutor(loadingExecutor);
+        CompletableFuture<?>[] futures = new CompletableFuture[tasks.length];
+
+        for (int i = 0; i < tasks.length; i++)
+            futures[i] = CompletableFuture.runAsync(tasks[i], executor);
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    private static java.util.concurrent.Executor getExecutor(@Nullable ExecutorService loadingExecutor) {
+        // Without a loading executor, all the tasks are executed on the calling thread.
+        return loadingExecutor == null ? Runnable::run : loadingExecutor;
+    }
+
+    private static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch (CompletionException error) {
+            if (error.getCause() instanceof RuntimeException)
+                throw (RuntimeException) error.getCause();
+            throw error;
+        }
+    }
+
 }
@@ -16,18 +16,21 @@ import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.api.upgrades.Upgrade;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.utils.LocationUtils;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkEntitiesTracker;
 import com.bgsoftware.superiorskyblock.world.chunks.ChunksTracker;
-import com.bgsoftware.superiorskyblock.database.serialization.IslandsSerializer;
 import com.bgsoftware.superiorskyblock.utils.items.ItemUtils;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -38,6 +41,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public final class IslandsDatabaseBridge {
 
     private static final Map<UUID, Map<FutureSave, Set<Object>>> SAVE_METHODS_TO_BE_EXECUTED = new ConcurrentHashMap<>();
+    // The block counts of islands as they are in the database, so only the changed counts are saved.
+    private static final Map<UUID, Map<Key, BigInteger>> SAVED_BLOCK_COUNTS = new ConcurrentHashMap<>();
 
     private IslandsDatabaseBridge() {
     }
@@ -450,10 +455,53 @@ public final class IslandsDatabaseBridge {
                 new Pair<>("dirty_chunks", ChunksTracker.serialize(island)));
     }
 
+    public static void saveEntityCounts(Island island) {
+        island.getDatabaseBridge().insertObject("islands_entity_counts",
+                new Pair<>("island", island.getUniqueId().toString()),
+                new Pair<>("entity_counts", ChunkEntitiesTracker.serialize(island)));
+    }
+
     public static void saveBlockCounts(Island island) {
+        Map<Key, BigInteger> blockCounts = island.getBlockCountsAsBigInteger();
+        Map<Key, BigInteger> savedBlockCounts = SAVED_BLOCK_COUNTS.computeIfAbsent(island.getUniqueId(), u -> new HashMap<>());
+
+        synchronized (savedBlockCounts) {
+            Iterator<Key> savedBlocks = savedBlockCounts.keySet().iterator();
+            while (savedBlocks.hasNext()) {
+                Key blockKey = savedBlocks.next();
+                if (!blockCounts.containsKey(blockKey)) {
+                    island.getDatabaseBridge().deleteObject("islands_block_counts",
+                            createFilter("island", island, new Pair<>("block", blockKey.toString())));
+                    savedBlocks.remove();
+                }
+            }
+
+            blockCounts.forEach((blockKey, amount) -> {
+                if (!amount.equals(savedBlockCounts.put(blockKey, amount))) {
+                    island.getDatabaseBridge().insertObject("islands_block_counts",
+                            new Pair<>("island", island.getUniqueId().toString()),
+                            new Pair<>("block", blockKey.toString()),
+                            new Pair<>("amount", amount.toString()));
+                }
+            });
+        }
+    }
+
+    /**
+     * Set the block counts of an island that are already saved in the database.
+     */
+    public static void setSavedBlockCounts(Island island, Map<Key, BigInteger> blockCounts) {
+        SAVED_BLOCK_COUNTS.put(island.getUniqueId(), new HashMap<>(blockCounts));
+    }
+
+    /**
+     * Move the block counts of an island from the old block_counts column into their own table.
+     */
+    public static void convertBlockCounts(Island island) {
+        saveBlockCounts(island);
         island.getDatabaseBridge().updateObject("islands",
                 createFilter("uuid", island),
-                new Pair<>("block_counts", IslandsSerializer.serializeBlockCounts(island.getBlockCountsAsBigInteger())));
+                new Pair<>("block_counts", ""));
     }
 
     public static void saveIslandChest(Island island, IslandChest islandChest) {
@@ -567,9 +615,11 @@ public final class IslandsDatabaseBridge {
                 new Pair<>("unlocked_worlds", island.getUnlockedWorldsFlag()),
                 new Pair<>("last_time_updated", System.currentTimeMillis() / 1000L),
                 new Pair<>("dirty_chunks", ChunksTracker.serialize(island)),
-                new Pair<>("block_counts", IslandsSerializer.serializeBlockCounts(island.getBlockCountsAsBigInteger()))
+                new Pair<>("block_counts", "")
         );
 
+        saveBlockCounts(island);
+
         island.getDatabaseBridge().insertObject("islands_banks",
                 new Pair<>("island", island.getUniqueId().toString()),
                 new Pair<>("balance", island.getIslandBank().getBalance() + ""),
@@ -595,9 +645,11 @@ public final class IslandsDatabaseBridge {
         island.getDatabaseBridge().deleteObject("islands", createFilter("uuid", island));
         island.getDatabaseBridge().deleteObject("islands_banks", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_bans", islandFilter);
+        island.getDatabaseBridge().deleteObject("islands_block_counts", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_block_limits", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_chests", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_effects", islandFilter);
+        island.getDatabaseBridge().deleteObject("islands_entity_counts", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_entity_limits", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_flags", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_generators", islandFilter);
@@ -614,6 +666,8 @@ public final class IslandsDatabaseBridge {
         island.getDatabaseBridge().deleteObject("islands_visitors", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_warp_categories", islandFilter);
         island.getDatabaseBridge().deleteObject("islands_warps", islandFilter);
+
+        SAVED_BLOCK_COUNTS.remove(island.getUniqueId());
     }
 
     public static void markIslandChestsToBeSaved(Island island, IslandChest islandChest) {
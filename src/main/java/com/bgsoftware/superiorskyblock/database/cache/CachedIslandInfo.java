@@ -20,6 +20,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffectType;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -37,6 +38,7 @@ public final class CachedIslandInfo {
     public final Map<IslandPrivilege, PlayerRole> rolePermissions = new HashMap<>();
     public final Map<String, Integer> upgrades = new HashMap<>();
     public final KeyMap<UpgradeValue<Integer>> blockLimits = new KeyMap<>();
+    public final KeyMap<BigInteger> blockCounts = new KeyMap<>();
     public final Map<UUID, Rating> ratings = new HashMap<>();
     public final Map<Mission<?>, Integer> completedMissions = new HashMap<>();
     public final Map<IslandFlag, Byte> islandFlags = new HashMap<>();
@@ -45,6 +47,7 @@ public final class CachedIslandInfo {
     public final KeyMap<UpgradeValue<Integer>> entityLimits = new KeyMap<>();
     public final Map<PotionEffectType, UpgradeValue<Integer>> islandEffects = new HashMap<>();
     public final List<ItemStack[]> islandChests = new ArrayList<>(plugin.getSettings().getIslandChests().getDefaultPages());
+    public final Map<Integer, String> serializedIslandChests = new HashMap<>();
     public final Map<PlayerRole, UpgradeValue<Integer>> roleLimits = new HashMap<>();
     public final Location[] visitorHomes = new Location[World.Environment.values().length];
     public UpgradeValue<Integer> islandSize = UpgradeValue.NEGATIVE;
@@ -57,6 +60,7 @@ public final class CachedIslandInfo {
     public UpgradeValue<BigDecimal> bankLimit = new UpgradeValue<>(new BigDecimal(-2), true);
     public BigDecimal balance = BigDecimal.ZERO;
     public long lastInterestTime = 0L;
+    public String entityCounts = "";
     public List<CachedWarpInfo> cachedWarpInfoList = new ArrayList<>();
     public List<CachedWarpCategoryInfo> cachedWarpCategoryInfoList = new ArrayList<>();
     public List<BankTransaction> bankTransactions = new ArrayList<>();
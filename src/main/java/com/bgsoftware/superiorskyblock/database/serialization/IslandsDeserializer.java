@@ -300,6 +300,35 @@ public final class IslandsDeserializer {
         });
     }
 
+    public static void deserializeBlockCounts(DatabaseBridge databaseBridge, DatabaseCache<CachedIslandInfo> databaseCache) {
+        databaseBridge.loadAllObjects("islands_block_counts", blockCountRow -> {
+            DatabaseResult blockCount = new DatabaseResult(blockCountRow);
+
+            Optional<UUID> uuid = blockCount.getUUID("island");
+            if (!uuid.isPresent()) {
+                SuperiorSkyblockPlugin.log("&cCannot load block counts for null islands, skipping...");
+                return;
+            }
+
+            Optional<Key> block = blockCount.getString("block").map(Key::of);
+            if (!block.isPresent()) {
+                SuperiorSkyblockPlugin.log(
+                        String.format("&cCannot load block counts for invalid blocks for %s, skipping...", uuid.get()));
+                return;
+            }
+
+            Optional<BigInteger> amount = blockCount.getBigDecimal("amount").map(BigDecimal::toBigInteger);
+            if (!amount.isPresent()) {
+                SuperiorSkyblockPlugin.log(
+                        String.format("&cCannot load block counts with invalid amounts for %s, skipping...", uuid.get()));
+                return;
+            }
+
+            CachedIslandInfo cachedIslandInfo = databaseCache.computeIfAbsentInfo(uuid.get(), CachedIslandInfo::new);
+            cachedIslandInfo.blockCounts.put(block.get(), amount.get());
+        });
+    }
+
     public static void deserializeBlockLimits(DatabaseBridge databaseBridge, DatabaseCache<CachedIslandInfo> databaseCache) {
         databaseBridge.loadAllObjects("islands_block_limits", blockLimitRow -> {
             DatabaseResult blockLimits = new DatabaseResult(blockLimitRow);
@@ -602,7 +631,7 @@ public final class IslandsDeserializer {
                 return;
             }
 
-            Optional<ItemStack[]> contents = islandChests.getString("contents").map(ItemUtils::deserialize);
+            Optional<String> contents = islandChests.getString("contents");
             if (!contents.isPresent()) {
                 SuperiorSkyblockPlugin.log(
                         String.format("&cCannot load island chest with invalid contents for %s, skipping...", uuid.get()));
@@ -615,7 +644,13 @@ public final class IslandsDeserializer {
                 cachedIslandInfo.islandChests.add(new ItemStack[plugin.getSettings().getIslandChests().getDefaultSize() * 9]);
             }
 
-            cachedIslandInfo.islandChests.add(contents.get());
+            // Chests that are loaded lazily are deserialized only when they are accessed.
+            if (plugin.getSettings().getIslandChests().getUnloadIdleTime() > 0) {
+                cachedIslandInfo.serializedIslandChests.put(index.get(), contents.get());
+                cachedIslandInfo.islandChests.add(null);
+            } else {
+                cachedIslandInfo.islandChests.add(ItemUtils.deserialize(contents.get()));
+            }
         });
     }
 
@@ -675,6 +710,21 @@ public final class IslandsDeserializer {
         });
     }
 
+    public static void deserializeEntityCounts(DatabaseBridge databaseBridge, DatabaseCache<CachedIslandInfo> databaseCache) {
+        databaseBridge.loadAllObjects("islands_entity_counts", entityCountsRow -> {
+            DatabaseResult entityCounts = new DatabaseResult(entityCountsRow);
+
+            Optional<UUID> uuid = entityCounts.getUUID("island");
+            if (!uuid.isPresent()) {
+                SuperiorSkyblockPlugin.log("&cCannot load entity counts for null islands, skipping...");
+                return;
+            }
+
+            CachedIslandInfo cachedIslandInfo = databaseCache.computeIfAbsentInfo(uuid.get(), CachedIslandInfo::new);
+            cachedIslandInfo.entityCounts = entityCounts.getString("entity_counts").orElse("");
+        });
+    }
+
     public static void deserializeIslandBank(DatabaseBridge databaseBridge, DatabaseCache<CachedIslandInfo> databaseCache) {
         databaseBridge.loadAllObjects("islands_banks", islandBankRow -> {
             DatabaseResult islandBank = new DatabaseResult(islandBankRow);
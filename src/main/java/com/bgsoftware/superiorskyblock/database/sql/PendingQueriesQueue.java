@@ -0,0 +1,400 @@
+package com.bgsoftware.superiorskyblock.database.sql;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.data.DatabaseFilter;
+import com.bgsoftware.superiorskyblock.api.objects.Pair;
+import com.bgsoftware.superiorskyblock.database.sql.session.QueryResult;
+import com.bgsoftware.superiorskyblock.database.sql.session.SQLTransaction;
+import com.bgsoftware.superiorskyblock.threads.Executor;
+import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
+
+import javax.annotation.Nullable;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind queue of modifying queries.
+ * Updates of the same rows are merged into one query with the latest values of their columns, as long as no other
+ * query was made to their table since. Queued queries are executed in order, in transactions of batches.
+ * Queries of a table can be executed before the rest of the queue, when the table is read.
+ */
+final class PendingQueriesQueue {
+
+    // The interval, in ticks, between flushes of the queue.
+    static final long FLUSH_INTERVAL = 20L;
+    private static final int FLUSH_THRESHOLD = 500;
+    private static final int MAX_TRANSACTION_SIZE = 1000;
+
+    // Templates of queries, so they are built only once for every signature.
+    private static final Map<QuerySignature, String> QUERY_TEMPLATES = new ConcurrentHashMap<>();
+
+    private final Object flushLock = new Object();
+    // Updates that can be merged with new updates of the same rows, by their tables and filters.
+    private final Map<String, Map<List<Object>, PendingQuery>> mergeableUpdates = new HashMap<>();
+    // Tables of the queries that are currently executed by a flush.
+    private final Set<String> flushingTables = new HashSet<>();
+    private List<PendingQuery> pendingQueries = new ArrayList<>();
+    private boolean flushScheduled = false;
+
+    void update(String table, @Nullable DatabaseFilter filter, Pair<String, Object>[] columns) {
+        List<Object> filters = getFilters(filter);
+        boolean flush = false;
+
+        synchronized (this) {
+            PendingQuery pendingUpdate;
+
+            if (isFilterChanged(filters, columns)) {
+                // The update moves the row to other filters, therefore updates of both filters cannot be merged
+                // with updates that will be made after it.
+                mergeableUpdates.remove(table);
+                pendingUpdate = new PendingQuery(QueryType.UPDATE, table, filters);
+                flush = addQuery(pendingUpdate);
+            } else {
+                Map<List<Object>, PendingQuery> tableUpdates = mergeableUpdates.computeIfAbsent(table, t -> new HashMap<>());
+                pendingUpdate = tableUpdates.get(filters);
+
+                if (pendingUpdate == null) {
+                    pendingUpdate = new PendingQuery(QueryType.UPDATE, table, filters);
+                    tableUpdates.put(filters, pendingUpdate);
+                    flush = addQuery(pendingUpdate);
+                }
+            }
+
+            for (Pair<String, Object> column : columns)
+                pendingUpdate.columns.put(column.getKey(), column.getValue());
+        }
+
+        if (flush)
+            Executor.data(this::flush);
+    }
+
+    void insert(String table, Pair<String, Object>[] columns) {
+        PendingQuery pendingInsert = new PendingQuery(QueryType.INSERT, table, Collections.emptyList());
+        for (Pair<String, Object> column : columns)
+            pendingInsert.columns.put(column.getKey(), column.getValue());
+
+        boolean flush;
+
+        synchronized (this) {
+            // Updates that were made before the insert cannot be merged with updates that will be made after it.
+            mergeableUpdates.remove(table);
+            flush = addQuery(pendingInsert);
+        }
+
+        if (flush)
+            Executor.data(this::flush);
+    }
+
+    void delete(String table, @Nullable DatabaseFilter filter) {
+        PendingQuery pendingDelete = new PendingQuery(QueryType.DELETE, table, getFilters(filter));
+        boolean flush;
+
+        synchronized (this) {
+            mergeableUpdates.remove(table);
+            flush = addQuery(pendingDelete);
+        }
+
+        if (flush)
+            Executor.data(this::flush);
+    }
+
+    void scheduleFlush() {
+        synchronized (this) {
+            if (flushScheduled || pendingQueries.isEmpty())
+                return;
+
+            flushScheduled = true;
+        }
+
+        Executor.data(this::flush);
+    }
+
+    void flush() {
+        synchronized (flushLock) {
+            List<PendingQuery> pendingQueries;
+
+            synchronized (this) {
+                flushScheduled = false;
+
+                if (this.pendingQueries.isEmpty())
+                    return;
+
+                pendingQueries = this.pendingQueries;
+                this.pendingQueries = new ArrayList<>();
+                mergeableUpdates.clear();
+
+                for (PendingQuery pendingQuery : pendingQueries)
+                    flushingTables.add(pendingQuery.table);
+            }
+
+            try {
+                executeQueries(pendingQueries);
+            } finally {
+                synchronized (this) {
+                    flushingTables.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Execute the queued queries of a table, so they are seen by queries that read it.
+     * Queries of other tables are kept in the queue, and the method returns immediately if the table has no
+     * queries that were not executed yet.
+     */
+    void flush(String table) {
+        synchronized (this) {
+            if (!flushingTables.contains(table) && pendingQueries.stream().noneMatch(query -> query.table.equals(table)))
+                return;
+        }
+
+        synchronized (flushLock) {
+            List<PendingQuery> tableQueries = new ArrayList<>();
+
+            synchronized (this) {
+                Iterator<PendingQuery> iterator = pendingQueries.iterator();
+                while (iterator.hasNext()) {
+                    PendingQuery pendingQuery = iterator.next();
+                    if (pendingQuery.table.equals(table)) {
+                        tableQueries.add(pendingQuery);
+                        iterator.remove();
+                    }
+                }
+
+                mergeableUpdates.remove(table);
+            }
+
+            if (!tableQueries.isEmpty())
+                executeQueries(tableQueries);
+        }
+    }
+
+    private static void executeQueries(List<PendingQuery> pendingQueries) {
+        if (!SQLHelper.isReady()) {
+            logDroppedQueries(pendingQueries);
+            return;
+        }
+
+        SQLHelper.waitForConnection();
+
+        Optional<Object> mutex = SQLHelper.getMutex();
+
+        if (!mutex.isPresent()) {
+            logDroppedQueries(pendingQueries);
+            return;
+        }
+
+        synchronized (mutex.get()) {
+            for (int start = 0; start < pendingQueries.size(); start += MAX_TRANSACTION_SIZE) {
+                List<PendingQuery> transactionQueries = pendingQueries.subList(start,
+                        Math.min(pendingQueries.size(), start + MAX_TRANSACTION_SIZE));
+                if (!executeTransaction(transactionQueries)) {
+                    // Executing the queries one by one, so one failing query will not discard the rest.
+                    for (PendingQuery pendingQuery : transactionQueries)
+                        executeTransaction(Collections.singletonList(pendingQuery));
+                }
+            }
+        }
+    }
+
+    /**
+     * Add a query to the queue.
+     *
+     * @return Whether the queue should be flushed.
+     */
+    private boolean addQuery(PendingQuery pendingQuery) {
+        pendingQueries.add(pendingQuery);
+
+        if (pendingQueries.size() < FLUSH_THRESHOLD || flushScheduled)
+            return false;
+
+        flushScheduled = true;
+        return true;
+    }
+
+    private static boolean executeTransaction(List<PendingQuery> pendingQueries) {
+        boolean[] success = new boolean[]{true};
+
+        SQLHelper.executeTransaction(new QueryResult<SQLTransaction>().onSuccess(transaction -> {
+            String currentQuery = null;
+            PreparedStatement preparedStatement = null;
+
+            for (PendingQuery pendingQuery : pendingQueries) {
+                String query = pendingQuery.getQuery();
+
+                if (!query.equals(currentQuery)) {
+                    if (preparedStatement != null)
+                        preparedStatement.executeBatch();
+                    currentQuery = query;
+                    preparedStatement = transaction.prepareStatement(query);
+                }
+
+                int parameterIndex = 1;
+                for (Object value : pendingQuery.columns.values())
+                    preparedStatement.setObject(parameterIndex++, value);
+                for (int i = 1; i < pendingQuery.filters.size(); i += 2)
+                    preparedStatement.setObject(parameterIndex++, pendingQuery.filters.get(i));
+
+                preparedStatement.addBatch();
+            }
+
+            if (preparedStatement != null)
+                preparedStatement.executeBatch();
+        }).onFail(error -> {
+            success[0] = false;
+            if (pendingQueries.size() == 1) {
+                SuperiorSkyblockPlugin.log("&cFailed to execute query " + pendingQueries.get(0));
+                error.printStackTrace();
+                PluginDebugger.debug(error);
+            }
+        }));
+
+        return success[0];
+    }
+
+    private static void logDroppedQueries(List<PendingQuery> pendingQueries) {
+        // The queries are logged, so data that was not saved can still be recovered from the logs.
+        SuperiorSkyblockPlugin.log("&cFailed to execute " + pendingQueries.size() + " queries, as the database is not connected:");
+        for (PendingQuery pendingQuery : pendingQueries)
+            SuperiorSkyblockPlugin.log("&c" + pendingQuery);
+    }
+
+    private static boolean isFilterChanged(List<Object> filters, Pair<String, Object>[] columns) {
+        for (int i = 0; i < filters.size(); i += 2) {
+            for (Pair<String, Object> column : columns) {
+                if (column.getKey().equals(filters.get(i)))
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<Object> getFilters(@Nullable DatabaseFilter filter) {
+        if (filter == null)
+            return Collections.emptyList();
+
+        List<Object> filters = new ArrayList<>(filter.getFilters().size() * 2);
+
+        for (Pair<String, Object> columnFilter : filter.getFilters()) {
+            filters.add(columnFilter.getKey());
+            filters.add(columnFilter.getValue() + "");
+        }
+
+        return filters;
+    }
+
+    private enum QueryType {
+
+        UPDATE,
+        INSERT,
+        DELETE
+
+    }
+
+    private static final class PendingQuery {
+
+        private final QueryType queryType;
+        private final String table;
+        // Columns of the filter and their values, one after another.
+        private final List<Object> filters;
+        private final Map<String, Object> columns = new LinkedHashMap<>();
+
+        PendingQuery(QueryType queryType, String table, List<Object> filters) {
+            this.queryType = queryType;
+            this.table = table;
+            this.filters = filters;
+        }
+
+        String getQuery() {
+            return QUERY_TEMPLATES.computeIfAbsent(new QuerySignature(this), QuerySignature::buildQuery);
+        }
+
+        @Override
+        public String toString() {
+            return getQuery() + " " + columns.values() + " " + filters;
+        }
+
+    }
+
+    /**
+     * The parts of a query that its template is built from: its type, table and columns.
+     */
+    private static final class QuerySignature {
+
+        private final QueryType queryType;
+        private final String table;
+        private final String[] columns;
+        private final String[] filterColumns;
+        private final int hashCode;
+
+        QuerySignature(PendingQuery pendingQuery) {
+            this.queryType = pendingQuery.queryType;
+            this.table = pendingQuery.table;
+            this.columns = pendingQuery.columns.keySet().toArray(new String[0]);
+            this.filterColumns = new String[pendingQuery.filters.size() / 2];
+            for (int i = 0; i < filterColumns.length; i++)
+                this.filterColumns[i] = (String) pendingQuery.filters.get(i * 2);
+            this.hashCode = Objects.hash(queryType, table, Arrays.hashCode(columns), Arrays.hashCode(filterColumns));
+        }
+
+        String buildQuery() {
+            StringBuilder query = new StringBuilder();
+
+            switch (queryType) {
+                case UPDATE:
+                    query.append("UPDATE {prefix}").append(table).append(" SET ");
+                    for (int i = 0; i < columns.length; i++)
+                        query.append(i == 0 ? "" : ",").append(columns[i]).append("=?");
+                    break;
+                case INSERT:
+                    query.append("REPLACE INTO {prefix}").append(table).append(" (");
+                    for (int i = 0; i < columns.length; i++)
+                        query.append(i == 0 ? "`" : ",`").append(columns[i]).append("`");
+                    query.append(") VALUES(");
+                    for (int i = 0; i < columns.length; i++)
+                        query.append(i == 0 ? "?" : ",?");
+                    query.append(")");
+                    break;
+                case DELETE:
+                    query.append("DELETE FROM {prefix}").append(table);
+                    break;
+            }
+
+            for (int i = 0; i < filterColumns.length; i++)
+                query.append(i == 0 ? " WHERE " : " AND ").append(filterColumns[i]).append("=?");
+
+            return query.append(";").toString();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof QuerySignature))
+                return false;
+            QuerySignature other = (QuerySignature) obj;
+            return queryType == other.queryType && table.equals(other.table) &&
+                    Arrays.equals(columns, other.columns) && Arrays.equals(filterColumns, other.filterColumns);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
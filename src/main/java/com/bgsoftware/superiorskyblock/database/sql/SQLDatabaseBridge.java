@@ -15,7 +15,7 @@ public final class SQLDatabaseBridge implements DatabaseBridge {
 
     private static final SQLDatabaseBridge INSTANCE = new SQLDatabaseBridge();
     private DatabaseBridgeMode databaseBridgeMode = DatabaseBridgeMode.IDLE;
-    private StatementHolder batchStatementHolder;
+    private final PendingQueriesQueue pendingQueriesQueue = new PendingQueriesQueue();
 
     private SQLDatabaseBridge() {
 
@@ -41,6 +41,10 @@ public final class SQLDatabaseBridge implements DatabaseBridge {
 
     @Override
     public void loadAllObjects(String table, Consumer<Map<String, Object>> resultConsumer) {
+        // Queued queries of the table are executed first, so they are seen by the select query.
+        // The writes are executed on the calling thread, the same as the select query.
+        pendingQueriesQueue.flush(table);
+
         SQLHelper.select(table, "", new QueryResult<ResultSet>().onSuccess(resultSet -> {
             while (resultSet.next()) {
                 try {
@@ -55,12 +59,10 @@ public final class SQLDatabaseBridge implements DatabaseBridge {
 
     @Override
     public void batchOperations(boolean batchOperations) {
-        if (batchOperations) {
-            batchStatementHolder = new StatementHolder("");
-        } else if (batchStatementHolder != null) {
-            batchStatementHolder.executeBatch(true);
-            batchStatementHolder = null;
-        }
+        // All operations are already batched by the pending queries queue.
+        // When a batch of operations is finished, they are flushed without waiting for the next interval.
+        if (!batchOperations)
+            pendingQueriesQueue.scheduleFlush();
     }
 
     @Override
@@ -68,29 +70,7 @@ public final class SQLDatabaseBridge implements DatabaseBridge {
         if (databaseBridgeMode != DatabaseBridgeMode.SAVE_DATA)
             return;
 
-        StringBuilder columnsBuilder = new StringBuilder();
-
-        for (Pair<String, Object> column : columns) {
-            if (columnsBuilder.length() != 0)
-                columnsBuilder.append(",");
-            columnsBuilder.append(column.getKey()).append("=?");
-        }
-
-        String columnFilter = getColumnFilter(filter);
-
-        String query = String.format("UPDATE {prefix}%s SET %s%s;", table, columnsBuilder, columnFilter);
-        StatementHolder statementHolder = buildStatementHolder(query);
-
-        for (Pair<String, Object> column : columns) {
-            statementHolder.setObject(column.getValue());
-        }
-
-        if (filter != null) {
-            for (Pair<String, Object> _columnFilter : filter.getFilters())
-                statementHolder.setObject(_columnFilter.getValue() + "");
-        }
-
-        executeStatementHolder(statementHolder);
+        pendingQueriesQueue.update(table, filter, columns);
     }
 
     @Override
@@ -98,26 +78,7 @@ public final class SQLDatabaseBridge implements DatabaseBridge {
         if (databaseBridgeMode != DatabaseBridgeMode.SAVE_DATA)
             return;
 
-        StringBuilder columnsBuilder = new StringBuilder();
-        StringBuilder valuesBuilder = new StringBuilder();
-
-        for (Pair<String, Object> column : columns) {
-            if (columnsBuilder.length() != 0)
-                columnsBuilder.append(",");
-            if (valuesBuilder.length() != 0)
-                valuesBuilder.append(",");
-            columnsBuilder.append("`").append(column.getKey()).append("`");
-            valuesBuilder.append("?");
-        }
-
-        String query = String.format("REPLACE INTO {prefix}%s (%s) VALUES(%s);", table, columnsBuilder, valuesBuilder);
-        StatementHolder statementHolder = buildStatementHolder(query);
-
-        for (Pair<String, Object> column : columns) {
-            statementHolder.setObject(column.getValue());
-        }
-
-        executeStatementHolder(statementHolder);
+        pendingQueriesQueue.insert(table, columns);
     }
 
     @Override
@@ -125,20 +86,16 @@ public final class SQLDatabaseBridge implements DatabaseBridge {
         if (databaseBridgeMode != DatabaseBridgeMode.SAVE_DATA)
             return;
 
-        String columnFilter = getColumnFilter(filter);
-        String query = String.format("DELETE FROM {prefix}%s%s;", table, columnFilter);
-        StatementHolder statementHolder = buildStatementHolder(query);
-
-        if (filter != null) {
-            for (Pair<String, Object> _columnFilter : filter.getFilters())
-                statementHolder.setObject(_columnFilter.getValue() + "");
-        }
-
-        executeStatementHolder(statementHolder);
+        pendingQueriesQueue.delete(table, filter);
     }
 
     @Override
     public void loadObject(String table, DatabaseFilter filter, Consumer<Map<String, Object>> resultConsumer) {
+        // Queued queries of the table are executed first, so they are seen by the select query.
+        // The writes are executed on the calling thread, therefore loading an object from the main thread
+        // still blocks it on JDBC writes of that table, as long as it has queued queries.
+        pendingQueriesQueue.flush(table);
+
         String columnFilter = getColumnFilter(filter);
 
         for (Pair<String, Object> filterPair : filter.getFilters()) {
@@ -163,21 +120,12 @@ public final class SQLDatabaseBridge implements DatabaseBridge {
         this.databaseBridgeMode = databaseBridgeMode;
     }
 
-    private StatementHolder buildStatementHolder(String query) {
-        if (batchStatementHolder == null) {
-            return new StatementHolder(query);
-        } else {
-            batchStatementHolder.setQuery(query);
-            return batchStatementHolder;
-        }
+    void schedulePendingQueriesFlush() {
+        pendingQueriesQueue.scheduleFlush();
     }
 
-    private void executeStatementHolder(StatementHolder statementHolder) {
-        if (batchStatementHolder == statementHolder) {
-            statementHolder.addBatch();
-        } else {
-            statementHolder.execute(true);
-        }
+    void flushPendingQueries() {
+        pendingQueriesQueue.flush();
     }
 
 }
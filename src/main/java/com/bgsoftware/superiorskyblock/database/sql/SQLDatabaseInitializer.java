@@ -5,6 +5,7 @@ import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.database.bridge.GridDatabaseBridge;
 import com.bgsoftware.superiorskyblock.database.sql.session.QueryResult;
 import com.bgsoftware.superiorskyblock.handler.HandlerLoadException;
+import com.bgsoftware.superiorskyblock.threads.Executor;
 
 import java.sql.ResultSet;
 
@@ -34,6 +35,9 @@ public final class SQLDatabaseInitializer {
 
         SQLHelper.select("grid", "", new QueryResult<ResultSet>()
                 .onFail(error -> GridDatabaseBridge.insertGrid(plugin.getGrid())));
+
+        Executor.asyncTimer(SQLDatabaseBridge.getInstance()::schedulePendingQueriesFlush,
+                PendingQueriesQueue.FLUSH_INTERVAL);
     }
 
     public void createIndexes() {
@@ -43,6 +47,9 @@ public final class SQLDatabaseInitializer {
         SQLHelper.createIndex("block_limits_index", "islands_block_limits",
                 "island", "block");
 
+        SQLHelper.createIndex("block_counts_index", "islands_block_counts",
+                "island", "block");
+
         SQLHelper.createIndex("islands_chests_index", "islands_chests",
                 "island", "`index`");
 
@@ -99,6 +106,7 @@ public final class SQLDatabaseInitializer {
     }
 
     public void close() {
+        SQLDatabaseBridge.getInstance().flushPendingQueries();
         SQLHelper.close();
     }
 
@@ -141,6 +149,12 @@ public final class SQLDatabaseInitializer {
                 new Pair<>("banned_time", "BIGINT")
         );
 
+        SQLHelper.createTable("islands_block_counts",
+                new Pair<>("island", "UUID"),
+                new Pair<>("block", "LONG_UNIQUE_TEXT"),
+                new Pair<>("amount", "BIG_DECIMAL")
+        );
+
         SQLHelper.createTable("islands_block_limits",
                 new Pair<>("island", "UUID"),
                 new Pair<>("block", "UNIQUE_TEXT"),
@@ -159,6 +173,11 @@ public final class SQLDatabaseInitializer {
                 new Pair<>("level", "INTEGER")
         );
 
+        SQLHelper.createTable("islands_entity_counts",
+                new Pair<>("island", "UUID PRIMARY KEY"),
+                new Pair<>("entity_counts", "LONGTEXT")
+        );
+
         SQLHelper.createTable("islands_entity_limits",
                 new Pair<>("island", "UUID"),
                 new Pair<>("entity", "UNIQUE_TEXT"),
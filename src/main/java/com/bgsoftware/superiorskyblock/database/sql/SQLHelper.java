@@ -3,7 +3,9 @@ package com.bgsoftware.superiorskyblock.database.sql;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.database.sql.session.QueryResult;
+import com.bgsoftware.superiorskyblock.database.sql.session.RemoteSQLSession;
 import com.bgsoftware.superiorskyblock.database.sql.session.SQLSession;
+import com.bgsoftware.superiorskyblock.database.sql.session.SQLTransaction;
 import com.bgsoftware.superiorskyblock.database.sql.session.impl.MariaDBSession;
 import com.bgsoftware.superiorskyblock.database.sql.session.impl.MySQLSession;
 import com.bgsoftware.superiorskyblock.database.sql.session.impl.PostgreSQLSession;
@@ -25,6 +27,10 @@ public final class SQLHelper {
         return globalSession != null;
     }
 
+    public static boolean isRemote() {
+        return globalSession instanceof RemoteSQLSession;
+    }
+
     public static void waitForConnection() {
         if (isReady())
             globalSession.waitForConnection();
@@ -90,19 +96,14 @@ public final class SQLHelper {
             globalSession.customQuery(query, queryResult);
     }
 
-    public static void close() {
+    public static void executeTransaction(QueryResult<SQLTransaction> queryResult) {
         if (isReady())
-            globalSession.closeConnection();
+            globalSession.executeTransaction(queryResult);
     }
 
-    public static void setAutoCommit(boolean autoCommit) {
-        if (isReady())
-            globalSession.setAutoCommit(autoCommit);
-    }
-
-    public static void commit() {
+    public static void close() {
         if (isReady())
-            globalSession.commit();
+            globalSession.closeConnection();
     }
 
 }
@@ -2,23 +2,26 @@ package com.bgsoftware.superiorskyblock.database.sql;
 
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.database.sql.session.QueryResult;
+import com.bgsoftware.superiorskyblock.database.sql.session.SQLTransaction;
 import com.bgsoftware.superiorskyblock.threads.Executor;
-import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
 
+import java.sql.BatchUpdateException;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 public final class StatementHolder {
 
-    private final List<Map<Integer, Object>> batches = new ArrayList<>();
+    // The amount of rows that are sent to the database in one round trip.
+    private static final int BATCH_SIZE = 1000;
 
-    private final Map<Integer, Object> values = new HashMap<>();
+    private final List<Object[]> batches = new ArrayList<>();
+
+    private final List<Object> values = new ArrayList<>();
     private String query;
-    private int currentIndex = 1;
 
     public StatementHolder(String statement) {
         setQuery(statement);
@@ -29,13 +32,12 @@ public final class StatementHolder {
     }
 
     public void addBatch() {
-        batches.add(new HashMap<>(values));
+        batches.add(values.toArray());
         values.clear();
-        currentIndex = 1;
     }
 
     public StatementHolder setObject(Object value) {
-        values.put(currentIndex++, value);
+        values.add(value);
         return this;
     }
 
@@ -51,38 +53,41 @@ public final class StatementHolder {
         SQLHelper.waitForConnection();
 
         try {
-            StringHolder errorQuery = new StringHolder(query);
-
             Optional<Object> mutex = SQLHelper.getMutex();
 
             if (!mutex.isPresent())
                 return;
 
+            // The first row of the chunk that is currently executed, and the row that failed if it is known.
+            int[] chunkStart = new int[]{0};
+            int[] failedRow = new int[]{-1};
+
             synchronized (mutex.get()) {
-                SQLHelper.customQuery(query, new QueryResult<PreparedStatement>().onSuccess(preparedStatement -> {
-                    SQLHelper.setAutoCommit(false);
+                SQLHelper.executeTransaction(new QueryResult<SQLTransaction>().onSuccess(transaction -> {
+                    PreparedStatement preparedStatement = transaction.prepareStatement(query);
 
-                    for (Map<Integer, Object> values : batches) {
-                        for (Map.Entry<Integer, Object> entry : values.entrySet()) {
-                            preparedStatement.setObject(entry.getKey(), entry.getValue());
-                            errorQuery.value = errorQuery.value.replaceFirst("\\?", entry.getValue() + "");
-                        }
+                    for (int row = 0; row < batches.size(); row++) {
+                        bindValues(preparedStatement, batches.get(row));
                         preparedStatement.addBatch();
-                    }
 
-                    preparedStatement.executeBatch();
-                    try {
-                        SQLHelper.commit();
-                    } catch (Throwable ignored) {
+                        if (row + 1 - chunkStart[0] == BATCH_SIZE || row == batches.size() - 1) {
+                            executeChunk(preparedStatement, chunkStart[0], row + 1 - chunkStart[0], failedRow);
+                            chunkStart[0] = row + 1;
+                        }
                     }
-
-                    SQLHelper.setAutoCommit(true);
                 }).onFail(error -> {
-                    SuperiorSkyblockPlugin.log("&cFailed to execute query " + errorQuery);
+                    if (failedRow[0] >= 0) {
+                        SuperiorSkyblockPlugin.log("&cFailed to execute query " + buildErrorQuery(query, batches.get(failedRow[0])));
+                    } else {
+                        int chunkEnd = Math.min(chunkStart[0] + BATCH_SIZE, batches.size()) - 1;
+                        SuperiorSkyblockPlugin.log("&cFailed to execute query " + query + " for rows " +
+                                chunkStart[0] + "-" + chunkEnd + " of the batch");
+                    }
                     error.printStackTrace();
                 }));
             }
         } finally {
+            batches.clear();
             values.clear();
         }
     }
@@ -99,22 +104,19 @@ public final class StatementHolder {
         SQLHelper.waitForConnection();
 
         try {
-            StringHolder errorQuery = new StringHolder(query);
-
             Optional<Object> mutex = SQLHelper.getMutex();
 
             if (!mutex.isPresent())
                 return;
 
+            Object[] values = this.values.toArray();
+
             synchronized (mutex.get()) {
                 SQLHelper.customQuery(query, new QueryResult<PreparedStatement>().onSuccess(preparedStatement -> {
-                    for (Map.Entry<Integer, Object> entry : values.entrySet()) {
-                        preparedStatement.setObject(entry.getKey(), entry.getValue());
-                        errorQuery.value = errorQuery.value.replaceFirst("\\?", entry.getValue() + "");
-                    }
+                    bindValues(preparedStatement, values);
                     preparedStatement.executeUpdate();
                 }).onFail(error -> {
-                    SuperiorSkyblockPlugin.log("&cFailed to execute query " + errorQuery);
+                    SuperiorSkyblockPlugin.log("&cFailed to execute query " + buildErrorQuery(query, values));
                     error.printStackTrace();
                 }));
             }
@@ -123,18 +125,47 @@ public final class StatementHolder {
         }
     }
 
-    private static class StringHolder {
+    private static void executeChunk(PreparedStatement preparedStatement, int chunkStart, int chunkSize,
+                                     int[] failedRow) throws SQLException {
+        try {
+            preparedStatement.executeBatch();
+        } catch (BatchUpdateException error) {
+            int[] updateCounts = error.getUpdateCounts();
+
+            // Drivers either stop executing at the failed row, or execute all rows and mark the failed ones.
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    failedRow[0] = chunkStart + i;
+                    throw error;
+                }
+            }
 
-        private String value;
+            if (updateCounts.length < chunkSize)
+                failedRow[0] = chunkStart + updateCounts.length;
 
-        StringHolder(String value) {
-            this.value = value;
+            throw error;
         }
+    }
 
-        @Override
-        public String toString() {
-            return value;
+    private static void bindValues(PreparedStatement preparedStatement, Object[] values) throws SQLException {
+        for (int i = 0; i < values.length; i++)
+            preparedStatement.setObject(i + 1, values[i]);
+    }
+
+    private static String buildErrorQuery(String query, Object[] values) {
+        StringBuilder errorQuery = new StringBuilder(query.length());
+        int valueIndex = 0;
+
+        for (int i = 0; i < query.length(); i++) {
+            char character = query.charAt(i);
+            if (character == '?' && valueIndex < values.length) {
+                errorQuery.append(values[valueIndex++]);
+            } else {
+                errorQuery.append(character);
+            }
         }
+
+        return errorQuery.toString();
     }
 
 }
@@ -11,12 +11,16 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class RemoteSQLSession implements SQLSession {
 
     protected final CompletableFuture<Void> ready = new CompletableFuture<>();
     protected final Object mutex = new Object();
+    // Queries with the prefix of their tables, by their templates.
+    private final Map<String, String> resolvedQueries = new ConcurrentHashMap<>();
     protected final SuperiorSkyblockPlugin plugin;
 
     @Nullable
@@ -57,30 +61,6 @@ public abstract class RemoteSQLSession implements SQLSession {
         return mutex;
     }
 
-    @Override
-    public void setAutoCommit(boolean autoCommit) {
-        Preconditions.checkNotNull(this.dataSource, "Session was not initialized.");
-
-        try (Connection conn = dataSource.getConnection()) {
-            conn.setAutoCommit(autoCommit);
-        } catch (SQLException error) {
-            error.printStackTrace();
-            PluginDebugger.debug(error);
-        }
-    }
-
-    @Override
-    public void commit() {
-        Preconditions.checkNotNull(this.dataSource, "Session was not initialized.");
-
-        try (Connection conn = dataSource.getConnection()) {
-            conn.commit();
-        } catch (SQLException error) {
-            error.printStackTrace();
-            PluginDebugger.debug(error);
-        }
-    }
-
     @Override
     public void createTable(String tableName, Pair<String, String>[] columns, QueryResult<Void> queryResult) {
         StringBuilder columnsSection = new StringBuilder();
@@ -138,17 +118,26 @@ public abstract class RemoteSQLSession implements SQLSession {
     public void customQuery(String statement, QueryResult<PreparedStatement> queryResult) {
         Preconditions.checkNotNull(this.dataSource, "Session was not initialized.");
 
-        String prefix = plugin.getSettings().getDatabase().getPrefix();
-        String query = statement.replace("{prefix}", prefix);
-
         try (Connection conn = this.dataSource.getConnection();
-             PreparedStatement preparedStatement = conn.prepareStatement(query)) {
+             PreparedStatement preparedStatement = conn.prepareStatement(resolveQuery(statement))) {
             queryResult.complete(preparedStatement);
         } catch (SQLException error) {
             queryResult.fail(error);
         }
     }
 
+    @Override
+    public void executeTransaction(QueryResult<SQLTransaction> queryResult) {
+        Preconditions.checkNotNull(this.dataSource, "Session was not initialized.");
+
+        // Prepared statements are cached for every pooled connection by the driver.
+        try (Connection conn = this.dataSource.getConnection()) {
+            SQLTransaction.execute(conn, this::resolveQuery, null, queryResult);
+        } catch (SQLException error) {
+            queryResult.fail(error);
+        }
+    }
+
     protected void log(String message) {
         if (logging)
             SuperiorSkyblockPlugin.log(message);
@@ -188,4 +177,9 @@ public abstract class RemoteSQLSession implements SQLSession {
         }
     }
 
+    private String resolveQuery(String statement) {
+        return resolvedQueries.computeIfAbsent(statement, query ->
+                query.replace("{prefix}", plugin.getSettings().getDatabase().getPrefix()));
+    }
+
 }
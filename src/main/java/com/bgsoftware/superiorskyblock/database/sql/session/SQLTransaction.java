@@ -0,0 +1,99 @@
+package com.bgsoftware.superiorskyblock.database.sql.session;
+
+import javax.annotation.Nullable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class SQLTransaction {
+
+    private final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
+    private final Connection connection;
+    private final Function<String, String> queryResolver;
+    @Nullable
+    private final Map<String, PreparedStatement> statementsCache;
+
+    private SQLTransaction(Connection connection, Function<String, String> queryResolver,
+                           @Nullable Map<String, PreparedStatement> statementsCache) {
+        this.connection = connection;
+        this.queryResolver = queryResolver;
+        this.statementsCache = statementsCache;
+    }
+
+    /**
+     * Get a prepared statement for a query.
+     * Statements are reused for the same queries during the transaction.
+     */
+    public PreparedStatement prepareStatement(String query) throws SQLException {
+        PreparedStatement preparedStatement = preparedStatements.get(query);
+
+        if (preparedStatement == null) {
+            preparedStatement = statementsCache == null ? null : statementsCache.get(query);
+
+            if (preparedStatement == null || preparedStatement.isClosed()) {
+                preparedStatement = connection.prepareStatement(queryResolver.apply(query));
+                if (statementsCache != null)
+                    statementsCache.put(query, preparedStatement);
+            }
+
+            preparedStatements.put(query, preparedStatement);
+        }
+
+        return preparedStatement;
+    }
+
+    /**
+     * Execute a transaction.
+     *
+     * @param connection      The connection to execute the transaction on.
+     * @param queryResolver   Function to convert queries into the queries that are sent to the database.
+     * @param statementsCache Cache of prepared statements of the connection that are kept after the transaction.
+     *                        If null, statements are closed when the transaction is finished.
+     * @param queryResult     The queries of the transaction.
+     */
+    public static void execute(Connection connection, Function<String, String> queryResolver,
+                               @Nullable Map<String, PreparedStatement> statementsCache,
+                               QueryResult<SQLTransaction> queryResult) {
+        SQLTransaction transaction = new SQLTransaction(connection, queryResolver, statementsCache);
+        boolean autoCommit = true;
+
+        try {
+            autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            queryResult.complete(transaction);
+            connection.commit();
+        } catch (SQLException | RuntimeException error) {
+            try {
+                connection.rollback();
+            } catch (SQLException ignored) {
+            }
+            queryResult.fail(error);
+        } finally {
+            transaction.close();
+            try {
+                connection.setAutoCommit(autoCommit);
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private void close() {
+        for (PreparedStatement preparedStatement : preparedStatements.values()) {
+            try {
+                if (statementsCache == null) {
+                    preparedStatement.close();
+                } else {
+                    preparedStatement.clearBatch();
+                    preparedStatement.clearParameters();
+                }
+            } catch (SQLException ignored) {
+            }
+        }
+
+        preparedStatements.clear();
+    }
+
+}
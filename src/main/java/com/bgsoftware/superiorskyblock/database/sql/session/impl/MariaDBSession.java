@@ -47,6 +47,12 @@ public final class MariaDBSession extends RemoteSQLSession {
             config.setMaxLifetime(plugin.getSettings().getDatabase().getMaxLifetime());
             config.addDataSourceProperty("characterEncoding", "utf8");
             config.addDataSourceProperty("useUnicode", "true");
+            // Caching prepared statements of every connection, so queries are parsed once.
+            config.addDataSourceProperty("cachePrepStmts", "true");
+            config.addDataSourceProperty("prepStmtCacheSize", "250");
+            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            // Batches are rewritten into multi-row queries, so they are sent in one round trip.
+            config.addDataSourceProperty("rewriteBatchedStatements", "true");
 
             dataSource = new HikariDataSource(config);
 
@@ -4,6 +4,7 @@ import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.objects.Pair;
 import com.bgsoftware.superiorskyblock.database.sql.session.QueryResult;
 import com.bgsoftware.superiorskyblock.database.sql.session.SQLSession;
+import com.bgsoftware.superiorskyblock.database.sql.session.SQLTransaction;
 import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
 import com.google.common.base.Preconditions;
 
@@ -15,12 +16,16 @@ import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 public final class SQLiteSession implements SQLSession {
 
     private final CompletableFuture<Void> ready = new CompletableFuture<>();
     private final Object mutex = new Object();
+    // Prepared statements of transactions, by their queries.
+    private final Map<String, PreparedStatement> preparedStatements = new HashMap<>();
     private final SuperiorSkyblockPlugin plugin;
 
     @Nullable
@@ -84,6 +89,9 @@ public final class SQLiteSession implements SQLSession {
         Preconditions.checkNotNull(this.conn, "Session was not initialized.");
 
         try {
+            for (PreparedStatement preparedStatement : preparedStatements.values())
+                preparedStatement.close();
+            preparedStatements.clear();
             conn.close();
         } catch (SQLException error) {
             error.printStackTrace();
@@ -106,30 +114,6 @@ public final class SQLiteSession implements SQLSession {
         return mutex;
     }
 
-    @Override
-    public void setAutoCommit(boolean autoCommit) {
-        Preconditions.checkNotNull(this.conn, "Session was not initialized.");
-
-        try {
-            this.conn.setAutoCommit(autoCommit);
-        } catch (SQLException error) {
-            error.printStackTrace();
-            PluginDebugger.debug(error);
-        }
-    }
-
-    @Override
-    public void commit() {
-        Preconditions.checkNotNull(this.conn, "Session was not initialized.");
-
-        try {
-            this.conn.commit();
-        } catch (SQLException error) {
-            error.printStackTrace();
-            PluginDebugger.debug(error);
-        }
-    }
-
     @Override
     public void createTable(String tableName, Pair<String, String>[] columns, QueryResult<Void> queryResult) {
         StringBuilder columnsSection = new StringBuilder();
@@ -188,6 +172,12 @@ public final class SQLiteSession implements SQLSession {
         }
     }
 
+    @Override
+    public void executeTransaction(QueryResult<SQLTransaction> queryResult) {
+        Preconditions.checkNotNull(this.conn, "Session was not initialized.");
+        SQLTransaction.execute(this.conn, query -> query.replace("{prefix}", ""), preparedStatements, queryResult);
+    }
+
     private void log(String message) {
         if (logging)
             SuperiorSkyblockPlugin.log(message);
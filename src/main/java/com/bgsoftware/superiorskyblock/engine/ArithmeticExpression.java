@@ -0,0 +1,247 @@
+package com.bgsoftware.superiorskyblock.engine;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simple arithmetic expressions with one variable, written as {} in the expression.
+ * Supports numbers, + - * / %, parentheses and the common functions and constants of Math.
+ * Expressions are evaluated with doubles, the same way the script engine evaluates them.
+ */
+public final class ArithmeticExpression {
+
+    private final Node root;
+
+    private ArithmeticExpression(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile an expression.
+     *
+     * @param expression The expression to compile.
+     * @return The compiled expression, or null if the expression is not supported.
+     */
+    @Nullable
+    public static ArithmeticExpression compile(String expression) {
+        try {
+            Parser parser = new Parser(expression);
+            Node root = parser.parseExpression();
+            return parser.isFinished() ? new ArithmeticExpression(root) : null;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    public double evaluate(double variable) {
+        return root.evaluate(variable);
+    }
+
+    private interface Node {
+
+        double evaluate(double variable);
+
+    }
+
+    private static final class Parser {
+
+        private final String expression;
+        private int position = 0;
+
+        Parser(String expression) {
+            this.expression = expression;
+        }
+
+        boolean isFinished() {
+            skipWhitespaces();
+            return position >= expression.length();
+        }
+
+        Node parseExpression() {
+            Node node = parseTerm();
+
+            while (true) {
+                if (consume('+')) {
+                    Node left = node, right = parseTerm();
+                    node = variable -> left.evaluate(variable) + right.evaluate(variable);
+                } else if (consume('-')) {
+                    Node left = node, right = parseTerm();
+                    node = variable -> left.evaluate(variable) - right.evaluate(variable);
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseTerm() {
+            Node node = parseUnary();
+
+            while (true) {
+                if (consume('*')) {
+                    Node left = node, right = parseUnary();
+                    node = variable -> left.evaluate(variable) * right.evaluate(variable);
+                } else if (consume('/')) {
+                    Node left = node, right = parseUnary();
+                    node = variable -> left.evaluate(variable) / right.evaluate(variable);
+                } else if (consume('%')) {
+                    Node left = node, right = parseUnary();
+                    node = variable -> left.evaluate(variable) % right.evaluate(variable);
+                } else {
+                    return node;
+                }
+            }
+        }
+
+        private Node parseUnary() {
+            if (consume('-')) {
+                Node node = parseUnary();
+                return variable -> -node.evaluate(variable);
+            }
+
+            if (consume('+'))
+                return parseUnary();
+
+            return parsePrimary();
+        }
+
+        private Node parsePrimary() {
+            skipWhitespaces();
+
+            if (consume('(')) {
+                Node node = parseExpression();
+                expect(')');
+                return node;
+            }
+
+            if (expression.startsWith("{}", position)) {
+                position += 2;
+                return variable -> variable;
+            }
+
+            if (expression.startsWith("Math.", position)) {
+                position += 5;
+                return parseMath();
+            }
+
+            return parseNumber();
+        }
+
+        private Node parseMath() {
+            String name = parseIdentifier();
+
+            switch (name) {
+                case "PI":
+                    return variable -> Math.PI;
+                case "E":
+                    return variable -> Math.E;
+            }
+
+            expect('(');
+            List<Node> arguments = new ArrayList<>();
+
+            if (!consume(')')) {
+                do {
+                    arguments.add(parseExpression());
+                } while (consume(','));
+                expect(')');
+            }
+
+            return createFunction(name, arguments);
+        }
+
+        private Node createFunction(String name, List<Node> arguments) {
+            if (arguments.size() == 1) {
+                Node argument = arguments.get(0);
+                switch (name) {
+                    case "abs":
+                        return variable -> Math.abs(argument.evaluate(variable));
+                    case "sqrt":
+                        return variable -> Math.sqrt(argument.evaluate(variable));
+                    case "cbrt":
+                        return variable -> Math.cbrt(argument.evaluate(variable));
+                    case "floor":
+                        return variable -> Math.floor(argument.evaluate(variable));
+                    case "ceil":
+                        return variable -> Math.ceil(argument.evaluate(variable));
+                    case "round":
+                        return variable -> Math.floor(argument.evaluate(variable) + 0.5);
+                    case "log":
+                        return variable -> Math.log(argument.evaluate(variable));
+                    case "log10":
+                        return variable -> Math.log10(argument.evaluate(variable));
+                    case "exp":
+                        return variable -> Math.exp(argument.evaluate(variable));
+                }
+            } else if (arguments.size() == 2) {
+                Node first = arguments.get(0), second = arguments.get(1);
+                switch (name) {
+                    case "pow":
+                        return variable -> Math.pow(first.evaluate(variable), second.evaluate(variable));
+                    case "min":
+                        return variable -> Math.min(first.evaluate(variable), second.evaluate(variable));
+                    case "max":
+                        return variable -> Math.max(first.evaluate(variable), second.evaluate(variable));
+                }
+            }
+
+            throw new IllegalArgumentException("Unsupported function: Math." + name);
+        }
+
+        private Node parseNumber() {
+            int start = position;
+
+            while (position < expression.length() && (Character.isDigit(expression.charAt(position)) ||
+                    expression.charAt(position) == '.'))
+                position++;
+
+            // Exponent of the number, for example: 1.5E+3
+            if (position > start && position < expression.length() &&
+                    (expression.charAt(position) == 'e' || expression.charAt(position) == 'E')) {
+                position++;
+                if (position < expression.length() && (expression.charAt(position) == '+' || expression.charAt(position) == '-'))
+                    position++;
+                while (position < expression.length() && Character.isDigit(expression.charAt(position)))
+                    position++;
+            }
+
+            if (start == position)
+                throw new IllegalArgumentException("Expected a number at " + position);
+
+            double number = Double.parseDouble(expression.substring(start, position));
+            return variable -> number;
+        }
+
+        private String parseIdentifier() {
+            int start = position;
+
+            while (position < expression.length() && Character.isLetterOrDigit(expression.charAt(position)))
+                position++;
+
+            return expression.substring(start, position);
+        }
+
+        private boolean consume(char character) {
+            skipWhitespaces();
+
+            if (position < expression.length() && expression.charAt(position) == character) {
+                position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private void expect(char character) {
+            if (!consume(character))
+                throw new IllegalArgumentException("Expected '" + character + "' at " + position);
+        }
+
+        private void skipWhitespaces() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position)))
+                position++;
+        }
+
+    }
+
+}
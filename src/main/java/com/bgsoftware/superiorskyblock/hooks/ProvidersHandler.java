@@ -207,6 +207,7 @@ public final class ProvidersHandler extends AbstractHandler implements Providers
     @Override
     public void setPricesProvider(PricesProvider pricesProvider) {
         this.pricesProvider = pricesProvider;
+        plugin.getBlockValues().clearCachedValues();
     }
 
     @Override
@@ -378,6 +379,10 @@ public final class ProvidersHandler extends AbstractHandler implements Providers
 
         if (Bukkit.getPluginManager().isPluginEnabled("SlimeWorldManager"))
             registerHook("SlimeWorldManagerHook");
+
+        if (Bukkit.getPluginManager().isPluginEnabled("WorldEdit") ||
+                Bukkit.getPluginManager().isPluginEnabled("FastAsyncWorldEdit"))
+            registerHook("WorldEditHook");
     }
 
     private void registerSpawnersProvider() {
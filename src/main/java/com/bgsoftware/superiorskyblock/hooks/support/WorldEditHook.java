@@ -0,0 +1,126 @@
+package com.bgsoftware.superiorskyblock.hooks.support;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkPosition;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunksTracker;
+import com.sk89q.worldedit.EditSession;
+import com.sk89q.worldedit.WorldEdit;
+import com.sk89q.worldedit.bukkit.BukkitWorld;
+import com.sk89q.worldedit.event.extent.EditSessionEvent;
+import com.sk89q.worldedit.extent.Extent;
+import com.sk89q.worldedit.util.eventbus.Subscribe;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+@SuppressWarnings("unused")
+public final class WorldEditHook {
+
+    private static SuperiorSkyblockPlugin plugin;
+
+    private WorldEditHook() {
+
+    }
+
+    public static void register(SuperiorSkyblockPlugin plugin) {
+        WorldEditHook.plugin = plugin;
+        WorldEdit.getInstance().getEventBus().register(new WorldEditHook());
+    }
+
+    @Subscribe
+    public void onEditSession(EditSessionEvent event) {
+        // Extents of this stage are the closest to the world, and therefore see only blocks that are actually set.
+        if (event.getStage() != EditSession.Stage.BEFORE_CHANGE || !(event.getWorld() instanceof BukkitWorld))
+            return;
+
+        World world = ((BukkitWorld) event.getWorld()).getWorld();
+
+        if (!plugin.getGrid().isIslandsWorld(world))
+            return;
+
+        // A proxy is used, as the signature of setBlock is different between versions of WorldEdit.
+        event.setExtent((Extent) Proxy.newProxyInstance(Extent.class.getClassLoader(), new Class<?>[]{Extent.class},
+                new BlockChangesHandler(world, event.getExtent())));
+    }
+
+    private static final class BlockChangesHandler implements InvocationHandler {
+
+        private final World world;
+        private final Extent extent;
+
+        private Class<?> positionClass;
+        private Method getBlockX;
+        private Method getBlockZ;
+
+        private int lastChunkX = Integer.MIN_VALUE;
+        private int lastChunkZ = Integer.MIN_VALUE;
+
+        BlockChangesHandler(World world, Extent extent) {
+            this.world = world;
+            this.extent = extent;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (args != null && args.length >= 2 && method.getName().equals("setBlock"))
+                onBlockChange(args);
+
+            try {
+                return method.invoke(extent, args);
+            } catch (InvocationTargetException error) {
+                throw error.getCause();
+            }
+        }
+
+        private void onBlockChange(Object[] args) {
+            int blockX;
+            int blockZ;
+
+            try {
+                if (args[0] instanceof Integer) {
+                    blockX = (int) args[0];
+                    blockZ = (int) args[2];
+                } else {
+                    Object position = args[0];
+                    if (position.getClass() != positionClass) {
+                        positionClass = position.getClass();
+                        getBlockX = positionClass.getMethod("getBlockX");
+                        getBlockZ = positionClass.getMethod("getBlockZ");
+                    }
+                    blockX = (int) getBlockX.invoke(position);
+                    blockZ = (int) getBlockZ.invoke(position);
+                }
+            } catch (Exception error) {
+                PluginDebugger.debug(error);
+                return;
+            }
+
+            int chunkX = blockX >> 4;
+            int chunkZ = blockZ >> 4;
+
+            // Edits set blocks chunk after chunk, so the island is looked up only once for every chunk.
+            if (chunkX == lastChunkX && chunkZ == lastChunkZ)
+                return;
+
+            lastChunkX = chunkX;
+            lastChunkZ = chunkZ;
+
+            Island island = plugin.getGrid().getIslandAt(new Location(world, blockX, 100, blockZ));
+
+            if (island == null || island.isSpawn())
+                return;
+
+            // The changed blocks are not tracked, so the chunk must be scanned in the next calculation.
+            ChunksTracker.markDirty(island, ChunkPosition.of(world, chunkX, chunkZ), true);
+            island.markForFullCalculation();
+        }
+
+    }
+
+}
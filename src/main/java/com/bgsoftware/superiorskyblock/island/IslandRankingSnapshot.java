@@ -0,0 +1,74 @@
+package com.bgsoftware.superiorskyblock.island;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable snapshot of the values islands are ranked by.
+ * A snapshot is kept for as long as the values it was computed from were not changed.
+ * As all of these values are immutable, they are compared by their references.
+ */
+final class IslandRankingSnapshot {
+
+    private final BigDecimal rawWorth;
+    private final BigDecimal bankBalance;
+    private final BigDecimal bonusWorth;
+    private final double bankWorthRate;
+    private final boolean negativeWorth;
+    private final BigDecimal rawLevel;
+    private final BigDecimal bonusLevel;
+    private final boolean roundedLevels;
+    private final boolean negativeLevel;
+    private final int ratingsVersion;
+
+    private final BigDecimal worth;
+    private final BigDecimal level;
+    private final double totalRating;
+
+    IslandRankingSnapshot(BigDecimal rawWorth, BigDecimal bankBalance, BigDecimal bonusWorth, double bankWorthRate,
+                          boolean negativeWorth, BigDecimal rawLevel, BigDecimal bonusLevel, boolean roundedLevels,
+                          boolean negativeLevel, int ratingsVersion, double totalRating) {
+        this.rawWorth = rawWorth;
+        this.bankBalance = bankBalance;
+        this.bonusWorth = bonusWorth;
+        this.bankWorthRate = bankWorthRate;
+        this.negativeWorth = negativeWorth;
+        this.rawLevel = rawLevel;
+        this.bonusLevel = bonusLevel;
+        this.roundedLevels = roundedLevels;
+        this.negativeLevel = negativeLevel;
+        this.ratingsVersion = ratingsVersion;
+        this.totalRating = totalRating;
+
+        BigDecimal worth = (bankWorthRate <= 0 ? rawWorth : rawWorth.add(
+                bankBalance.multiply(BigDecimal.valueOf(bankWorthRate)))).add(bonusWorth);
+        this.worth = !negativeWorth && worth.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : worth;
+
+        BigDecimal level = rawLevel.add(bonusLevel);
+        if (roundedLevels)
+            level = level.setScale(0, RoundingMode.HALF_UP);
+        this.level = !negativeLevel && level.compareTo(BigDecimal.ZERO) < 0 ? BigDecimal.ZERO : level;
+    }
+
+    boolean isValid(BigDecimal rawWorth, BigDecimal bankBalance, BigDecimal bonusWorth, double bankWorthRate,
+                    boolean negativeWorth, BigDecimal rawLevel, BigDecimal bonusLevel, boolean roundedLevels,
+                    boolean negativeLevel, int ratingsVersion) {
+        return this.rawWorth == rawWorth && this.bankBalance == bankBalance && this.bonusWorth == bonusWorth &&
+                this.bankWorthRate == bankWorthRate && this.negativeWorth == negativeWorth &&
+                this.rawLevel == rawLevel && this.bonusLevel == bonusLevel && this.roundedLevels == roundedLevels &&
+                this.negativeLevel == negativeLevel && this.ratingsVersion == ratingsVersion;
+    }
+
+    BigDecimal getWorth() {
+        return worth;
+    }
+
+    BigDecimal getLevel() {
+        return level;
+    }
+
+    double getTotalRating() {
+        return totalRating;
+    }
+
+}
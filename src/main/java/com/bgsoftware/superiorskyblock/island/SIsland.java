@@ -44,7 +44,7 @@ import com.bgsoftware.superiorskyblock.mission.MissionData;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeCropGrowth;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeIslandEffects;
-import com.bgsoftware.superiorskyblock.structure.CompletableFutureList;
+import com.bgsoftware.superiorskyblock.structure.BigDecimalAccumulator;
 import com.bgsoftware.superiorskyblock.threads.Executor;
 import com.bgsoftware.superiorskyblock.threads.SyncedObject;
 import com.bgsoftware.superiorskyblock.upgrade.DefaultUpgradeLevel;
@@ -54,12 +54,12 @@ import com.bgsoftware.superiorskyblock.utils.LocationUtils;
 import com.bgsoftware.superiorskyblock.utils.ServerVersion;
 import com.bgsoftware.superiorskyblock.utils.StringUtils;
 import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
-import com.bgsoftware.superiorskyblock.utils.entities.EntityUtils;
 import com.bgsoftware.superiorskyblock.utils.events.EventsCaller;
 import com.bgsoftware.superiorskyblock.utils.islands.IslandUtils;
 import com.bgsoftware.superiorskyblock.utils.islands.SortingComparators;
 import com.bgsoftware.superiorskyblock.utils.islands.SortingTypes;
 import com.bgsoftware.superiorskyblock.world.chunks.ChunkPosition;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkEntitiesTracker;
 import com.bgsoftware.superiorskyblock.world.chunks.ChunksTracker;
 import com.bgsoftware.superiorskyblock.wrappers.SBlockPosition;
 import com.google.common.base.Preconditions;
@@ -126,6 +126,9 @@ public final class SIsland implements Island {
      * Island Flags
      */
     private volatile boolean beingRecalculated = false;
+    private volatile boolean fullCalculationRequired = false;
+    // Identifies the running calculation, so results of calculations that were reset are ignored.
+    private final AtomicInteger calculationId = new AtomicInteger(0);
 
     /*
      * Island Identifiers
@@ -141,7 +144,11 @@ public final class SIsland implements Island {
      * Island Time-Trackers
      */
     private volatile long lastTimeUpdate = -1;
+    // Blocks may have been changed while the server was offline, so the first calculation scans the island.
+    private volatile long lastFullCalculation = 0L;
     private volatile long lastInterest = -1L;
+    private final AtomicInteger ratingsVersion = new AtomicInteger(0);
+    private volatile IslandRankingSnapshot rankingSnapshot;
     private volatile long lastUpgradeTime = -1L;
 
     /*
@@ -188,8 +195,8 @@ public final class SIsland implements Island {
     private final Map<IslandPrivilege, PlayerRole> rolePermissions = new ConcurrentHashMap<>();
     private final Map<IslandFlag, Byte> islandFlags = new ConcurrentHashMap<>();
     private final Map<String, Integer> upgrades = new ConcurrentHashMap<>();
-    private final AtomicReference<BigDecimal> islandWorth = new AtomicReference<>(BigDecimal.ZERO);
-    private final AtomicReference<BigDecimal> islandLevel = new AtomicReference<>(BigDecimal.ZERO);
+    private final BigDecimalAccumulator islandWorth = new BigDecimalAccumulator();
+    private final BigDecimalAccumulator islandLevel = new BigDecimalAccumulator();
     private final AtomicReference<BigDecimal> bonusWorth = new AtomicReference<>(BigDecimal.ZERO);
     private final AtomicReference<BigDecimal> bonusLevel = new AtomicReference<>(BigDecimal.ZERO);
     private final Map<Mission<?>, Integer> completedMissions = new ConcurrentHashMap<>();
@@ -283,12 +290,12 @@ public final class SIsland implements Island {
             if (dirtyChunks.isPresent())
                 ChunksTracker.deserialize(plugin.getGrid(), island, dirtyChunks.get());
 
-            Optional<String> blockCountsString = resultSet.getString("block_counts");
-            if (blockCountsString.isPresent())
-                Executor.sync(() -> island.deserializeBlockCounts(blockCountsString.get()), 5L);
-
             CachedIslandInfo cachedIslandInfo = cache.getCachedInfo(uuid.get());
 
+            KeyMap<BigInteger> blockCounts = cachedIslandInfo == null ? null : cachedIslandInfo.blockCounts;
+            String legacyBlockCounts = resultSet.getString("block_counts").orElse("");
+            Executor.sync(() -> island.deserializeBlockCounts(blockCounts, legacyBlockCounts), 5L);
+
             if (cachedIslandInfo != null)
                 island.loadFromCachedInfo(cachedIslandInfo);
 
@@ -391,6 +398,18 @@ public final class SIsland implements Island {
         return playersInside.readAndGet(playersInside -> playersInside.stream().filter(SuperiorPlayer::isOnline).collect(Collectors.toList()));
     }
 
+    @Override
+    public int getAllPlayersInsideAmount() {
+        return playersInside.readAndGet(playersInside -> {
+            int playersInsideAmount = 0;
+            for (SuperiorPlayer superiorPlayer : playersInside) {
+                if (superiorPlayer.isOnline())
+                    ++playersInsideAmount;
+            }
+            return playersInsideAmount;
+        });
+    }
+
     @Override
     public List<SuperiorPlayer> getUniqueVisitors() {
         return uniqueVisitors.readAndGet(uniqueVisitors -> uniqueVisitors.stream().map(Pair::getKey).collect(Collectors.toList()));
@@ -643,6 +662,8 @@ public final class SIsland implements Island {
         if (!changePlayers)
             return;
 
+        plugin.getGrid().getIslandsContainer().notifyChange(this);
+
         if (!isMember(superiorPlayer) && superiorPlayer.isShownAsOnline()) {
             Optional<Pair<SuperiorPlayer, Long>> playerPairOptional = uniqueVisitors.readAndGet(uniqueVisitors ->
                     uniqueVisitors.stream().filter(pair -> pair.getKey().equals(superiorPlayer)).findFirst());
@@ -927,11 +948,10 @@ public final class SIsland implements Island {
         if (location.getWorld() == null || !plugin.getGrid().isIslandsWorld(location.getWorld()))
             return false;
 
-        Location min = getMinimum();
-        Location max = getMaximum();
+        int islandDistance = (int) Math.round(plugin.getSettings().getMaxIslandSize() *
+                (plugin.getSettings().isBuildOutsideIsland() ? 1.5 : 1D));
 
-        return min.getBlockX() <= location.getBlockX() && min.getBlockZ() <= location.getBlockZ() &&
-                max.getBlockX() >= location.getBlockX() && max.getBlockZ() >= location.getBlockZ();
+        return isInside(location.getBlockX(), location.getBlockZ(), islandDistance);
     }
 
     @Override
@@ -944,11 +964,7 @@ public final class SIsland implements Island {
         if (location.getWorld() == null || !plugin.getGrid().isIslandsWorld(location.getWorld()))
             return false;
 
-        Location min = getMinimumProtected();
-        Location max = getMaximumProtected();
-
-        return min.getBlockX() <= location.getBlockX() && min.getBlockZ() <= location.getBlockZ() &&
-                max.getBlockX() >= location.getBlockX() && max.getBlockZ() >= location.getBlockZ();
+        return isInside(location.getBlockX(), location.getBlockZ(), getIslandSize());
     }
 
     @Override
@@ -958,11 +974,10 @@ public final class SIsland implements Island {
         if (chunk.getWorld() == null || !plugin.getGrid().isIslandsWorld(chunk.getWorld()))
             return false;
 
-        Location min = getMinimumProtected();
-        Location max = getMaximumProtected();
+        int islandSize = getIslandSize();
 
-        return (min.getBlockX() >> 4) <= chunk.getX() && (min.getBlockZ() >> 4) <= chunk.getZ() &&
-                (max.getBlockX() >> 4) >= chunk.getX() && (max.getBlockZ() >> 4) >= chunk.getZ();
+        return ((center.getX() - islandSize) >> 4) <= chunk.getX() && ((center.getZ() - islandSize) >> 4) <= chunk.getZ() &&
+                ((center.getX() + islandSize) >> 4) >= chunk.getX() && ((center.getZ() + islandSize) >> 4) >= chunk.getZ();
     }
 
     @Override
@@ -1190,6 +1205,8 @@ public final class SIsland implements Island {
         this.islandName = islandName;
         this.islandRawName = StringUtils.stripColors(this.islandName);
 
+        plugin.getGrid().getIslandsContainer().notifyChange(this);
+
         IslandsDatabaseBridge.saveName(this);
     }
 
@@ -1323,6 +1340,7 @@ public final class SIsland implements Island {
         }
 
         beingRecalculated = true;
+        int calculationId = this.calculationId.incrementAndGet();
 
         PluginDebugger.debug("Action: Calculate Island, Island: " + owner.getName() + ", Target: " + (asker == null ? "Null" : asker.getName()));
 
@@ -1340,6 +1358,9 @@ public final class SIsland implements Island {
         }
 
         calculationResult.whenComplete((result, error) -> {
+            if (calculationId != this.calculationId.get())
+                return;
+
             if (error != null) {
                 if (error instanceof TimeoutException) {
                     if (asker != null)
@@ -1372,10 +1393,47 @@ public final class SIsland implements Island {
             saveBlockCounts(oldWorth, oldLevel);
             updateLastTime();
 
+            fullCalculationRequired = false;
+            lastFullCalculation = System.currentTimeMillis() / 1000;
+
             beingRecalculated = false;
         });
     }
 
+    /**
+     * Finish a periodic calculation of the island with its tracked block counts.
+     * Block counts are tracked on every change, therefore they can be used directly unless a full
+     * calculation is required.
+     *
+     * @return Whether the tracked block counts were used.
+     */
+    public boolean calcIslandWorthByTrackedCounts() {
+        if (beingRecalculated || isFullCalculationRequired())
+            return false;
+
+        PluginDebugger.debug("Action: Calculate Island, Island: " + owner.getName() + ", Target: Null - Tracked Counts");
+        finishCalcIsland(null, null, getIslandLevel(), getWorth());
+        plugin.getMenus().refreshValues(this);
+        plugin.getMenus().refreshCounts(this);
+        return true;
+    }
+
+    /**
+     * Reset the calculation state of the island, so it can be calculated again.
+     * The result of the current calculation is ignored if it finishes later.
+     */
+    public void resetCalculation() {
+        PluginDebugger.debug("Action: Reset Calculation, Island: " + owner.getName());
+        this.calculationId.incrementAndGet();
+        this.beingRecalculated = false;
+    }
+
+    @Override
+    public void markForFullCalculation() {
+        PluginDebugger.debug("Action: Mark Full Calculation, Island: " + owner.getName());
+        this.fullCalculationRequired = true;
+    }
+
     @Override
     public IslandCalculationAlgorithm getCalculationAlgorithm() {
         return this.calculationAlgorithm;
@@ -1559,6 +1617,7 @@ public final class SIsland implements Island {
     public void setIgnored(boolean ignored) {
         PluginDebugger.debug("Action: Set Ignored, Island: " + owner.getName() + ", Ignored: " + ignored);
         this.isTopIslandsIgnored = ignored;
+        plugin.getGrid().getIslandsContainer().notifyChange(this);
         IslandsDatabaseBridge.saveIgnoredStatus(this);
     }
 
@@ -1764,11 +1823,11 @@ public final class SIsland implements Island {
         BigDecimal blockLevel = plugin.getBlockValues().getBlockLevel(key);
 
         if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
-            islandWorth.updateAndGet(islandWorth -> islandWorth.add(blockValue.multiply(new BigDecimal(amount))));
+            islandWorth.add(blockValue, amount);
         }
 
         if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
-            islandLevel.updateAndGet(islandLevel -> islandLevel.add(blockLevel.multiply(new BigDecimal(amount))));
+            islandLevel.add(blockLevel, amount);
         }
 
         if (updateLastTimeStatus)
@@ -1834,11 +1893,11 @@ public final class SIsland implements Island {
         BigDecimal blockLevel = plugin.getBlockValues().getBlockLevel(key);
 
         if (blockValue.compareTo(BigDecimal.ZERO) != 0) {
-            this.islandWorth.updateAndGet(islandWorth -> islandWorth.subtract(blockValue.multiply(new BigDecimal(amount))));
+            this.islandWorth.subtract(blockValue, amount);
         }
 
         if (blockLevel.compareTo(BigDecimal.ZERO) != 0) {
-            this.islandLevel.updateAndGet(islandLevel -> islandLevel.subtract(blockLevel.multiply(new BigDecimal(amount))));
+            this.islandLevel.subtract(blockLevel, amount);
         }
 
         boolean hasBlockLimit = blockLimits.containsKey(key),
@@ -1877,20 +1936,17 @@ public final class SIsland implements Island {
         return this.blocksTracker;
     }
 
+    /**
+     * Get the entities-tracker used by this island.
+     * Entities are tracked through {@link ChunkEntitiesTracker}, which keeps the counts of every chunk of the island.
+     */
+    public IslandEntitiesTrackerAlgorithm getEntitiesTracker() {
+        return this.entitiesTracker;
+    }
+
     @Override
     public BigDecimal getWorth() {
-        double bankWorthRate = BuiltinModules.BANK.bankWorthRate;
-
-        BigDecimal islandWorth = this.islandWorth.get();
-        BigDecimal islandBank = this.islandBank.getBalance();
-        BigDecimal bonusWorth = this.bonusWorth.get();
-        BigDecimal finalIslandWorth = (bankWorthRate <= 0 ? getRawWorth() : islandWorth.add(
-                islandBank.multiply(BigDecimal.valueOf(bankWorthRate)))).add(bonusWorth);
-
-        if (!plugin.getSettings().isNegativeWorth() && finalIslandWorth.compareTo(BigDecimal.ZERO) < 0)
-            return BigDecimal.ZERO;
-
-        return finalIslandWorth;
+        return getRankingSnapshot().getWorth();
     }
 
     @Override
@@ -1910,6 +1966,7 @@ public final class SIsland implements Island {
 
         this.bonusWorth.set(bonusWorth);
 
+        plugin.getGrid().getIslandsContainer().notifyChange(this);
         plugin.getGrid().sortIslands(SortingTypes.BY_WORTH);
         plugin.getGrid().sortIslands(SortingTypes.BY_LEVEL);
 
@@ -1928,6 +1985,7 @@ public final class SIsland implements Island {
 
         this.bonusLevel.set(bonusLevel);
 
+        plugin.getGrid().getIslandsContainer().notifyChange(this);
         plugin.getGrid().sortIslands(SortingTypes.BY_WORTH);
         plugin.getGrid().sortIslands(SortingTypes.BY_LEVEL);
 
@@ -1936,17 +1994,7 @@ public final class SIsland implements Island {
 
     @Override
     public BigDecimal getIslandLevel() {
-        BigDecimal bonusLevel = this.bonusLevel.get();
-        BigDecimal islandLevel = this.islandLevel.get().add(bonusLevel);
-
-        if (plugin.getSettings().isRoundedIslandLevels()) {
-            islandLevel = islandLevel.setScale(0, RoundingMode.HALF_UP);
-        }
-
-        if (!plugin.getSettings().isNegativeLevel() && islandLevel.compareTo(BigDecimal.ZERO) < 0)
-            islandLevel = BigDecimal.ZERO;
-
-        return islandLevel;
+        return getRankingSnapshot().getLevel();
     }
 
     @Override
@@ -2241,35 +2289,12 @@ public final class SIsland implements Island {
     public CompletableFuture<Boolean> hasReachedEntityLimit(com.bgsoftware.superiorskyblock.api.key.Key key, int amount) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
 
-        CompletableFutureList<Chunk> chunks = new CompletableFutureList<>();
         int entityLimit = getEntityLimit(key);
 
         if (entityLimit <= IslandUtils.NO_LIMIT.get())
             return CompletableFuture.completedFuture(false);
 
-        AtomicInteger amountOfEntities = new AtomicInteger(0);
-
-        for (World.Environment environment : World.Environment.values()) {
-            try {
-                chunks.addAll(getAllChunksAsync(environment, true, true, chunk ->
-                        amountOfEntities.set(amountOfEntities.get() + (int) Arrays.stream(chunk.getEntities())
-                                .filter(entity -> key.equals(EntityUtils.getLimitEntityType(entity)) &&
-                                        !EntityUtils.canBypassEntityLimit(entity)).count())));
-            } catch (Exception ignored) {
-            }
-        }
-
-        CompletableFuture<Boolean> completableFuture = new CompletableFuture<>();
-
-        Executor.async(() -> {
-            //Waiting for all the chunks to load
-            chunks.forEachCompleted(chunk -> {
-            }, error -> {
-            });
-            completableFuture.complete(amountOfEntities.get() + amount - 1 > entityLimit);
-        });
-
-        return completableFuture;
+        return CompletableFuture.completedFuture(entitiesTracker.getEntityCount(key).intValue() + amount - 1 > entityLimit);
     }
 
     @Override
@@ -2642,17 +2667,15 @@ public final class SIsland implements Island {
             IslandsDatabaseBridge.saveRating(this, superiorPlayer, rating, System.currentTimeMillis());
         }
 
+        ratingsVersion.incrementAndGet();
+        plugin.getGrid().getIslandsContainer().notifyChange(this);
+
         plugin.getMenus().refreshIslandRatings(this);
     }
 
     @Override
     public double getTotalRating() {
-        double avg = 0;
-
-        for (Rating rating : ratings.values())
-            avg += rating.getValue();
-
-        return avg == 0 ? 0 : avg / getRatingAmount();
+        return getRankingSnapshot().getTotalRating();
     }
 
     @Override
@@ -2669,6 +2692,8 @@ public final class SIsland implements Island {
     public void removeRatings() {
         PluginDebugger.debug("Action: Remove Ratings, Island: " + owner.getName());
         ratings.clear();
+        ratingsVersion.incrementAndGet();
+        plugin.getGrid().getIslandsContainer().notifyChange(this);
 
         IslandsDatabaseBridge.clearRatings(this);
 
@@ -3069,6 +3094,7 @@ public final class SIsland implements Island {
         BigDecimal newLevel = getIslandLevel();
 
         if (oldLevel.compareTo(newLevel) != 0 || oldWorth.compareTo(newWorth) != 0) {
+            plugin.getGrid().getIslandsContainer().notifyChange(this);
             Executor.async(() ->
                     EventsCaller.callIslandWorthUpdateEvent(this, oldWorth, oldLevel, newWorth, newLevel), 0L);
         }
@@ -3254,16 +3280,40 @@ public final class SIsland implements Island {
         });
     }
 
-    private void deserializeBlockCounts(@Nullable String blockCounts) {
+    private boolean isInside(int blockX, int blockZ, int radius) {
+        return center.getX() - radius <= blockX && center.getZ() - radius <= blockZ &&
+                center.getX() + radius >= blockX && center.getZ() + radius >= blockZ;
+    }
+
+    private boolean isFullCalculationRequired() {
+        long fullCalcInterval = plugin.getSettings().getFullCalcInterval();
+        return fullCalculationRequired || fullCalcInterval <= 0 ||
+                (System.currentTimeMillis() / 1000) - lastFullCalculation >= fullCalcInterval;
+    }
+
+    private void deserializeBlockCounts(@Nullable KeyMap<BigInteger> blockCounts, String legacyBlockCounts) {
+        boolean hasBlockCounts = blockCounts != null && !blockCounts.isEmpty();
+
         try {
             this.blocksTracker.setLoadingDataMode(true);
-            IslandsDeserializer.deserializeBlockCounts(blockCounts, this);
+            if (hasBlockCounts) {
+                blockCounts.forEach((blockKey, amount) -> handleBlockPlace(blockKey, amount, false, false));
+                IslandsDatabaseBridge.setSavedBlockCounts(this, blockCounts);
+            } else {
+                IslandsDeserializer.deserializeBlockCounts(legacyBlockCounts, this);
+            }
         } finally {
             this.blocksTracker.setLoadingDataMode(false);
         }
 
-        if (this.blocksTracker.getBlockCounts().isEmpty())
+        // Block counts that are still saved in the islands table are moved into their own table.
+        if (!legacyBlockCounts.isEmpty())
+            IslandsDatabaseBridge.convertBlockCounts(this);
+
+        if (this.blocksTracker.getBlockCounts().isEmpty()) {
+            markForFullCalculation();
             calcIslandWorth(null);
+        }
     }
 
     private void loadFromCachedInfo(CachedIslandInfo cachedIslandInfo) {
@@ -3279,6 +3329,7 @@ public final class SIsland implements Island {
         this.upgrades.putAll(cachedIslandInfo.upgrades);
         this.blockLimits.putAll(cachedIslandInfo.blockLimits);
         this.ratings.putAll(cachedIslandInfo.ratings);
+        this.ratingsVersion.incrementAndGet();
         this.completedMissions.putAll(cachedIslandInfo.completedMissions);
         this.islandFlags.putAll(cachedIslandInfo.islandFlags);
         System.arraycopy(cachedIslandInfo.cobbleGeneratorValues, 0, this.cobbleGeneratorValues,
@@ -3288,7 +3339,10 @@ public final class SIsland implements Island {
         this.islandEffects.putAll(cachedIslandInfo.islandEffects);
         IslandChest[] islandChests = new IslandChest[cachedIslandInfo.islandChests.size()];
         for (int index = 0; index < islandChests.length; ++index) {
-            islandChests[index] = SIslandChest.createChest(this, index, cachedIslandInfo.islandChests.get(index));
+            String serializedContents = cachedIslandInfo.serializedIslandChests.get(index);
+            islandChests[index] = serializedContents == null ?
+                    SIslandChest.createChest(this, index, cachedIslandInfo.islandChests.get(index)) :
+                    SIslandChest.createLazyChest(this, index, serializedContents);
         }
         this.islandChests.set(islandChests);
         this.roleLimits.putAll(cachedIslandInfo.roleLimits);
@@ -3336,6 +3390,8 @@ public final class SIsland implements Island {
         });
 
         cachedIslandInfo.bankTransactions.forEach(islandBank::loadTransaction);
+
+        ChunkEntitiesTracker.deserialize(this, cachedIslandInfo.entityCounts);
     }
 
     private void startBankInterest() {
@@ -3562,6 +3618,38 @@ public final class SIsland implements Island {
         }
     }
 
+    private IslandRankingSnapshot getRankingSnapshot() {
+        BigDecimal rawWorth = this.islandWorth.get();
+        BigDecimal bankBalance = this.islandBank.getBalance();
+        BigDecimal bonusWorth = this.bonusWorth.get();
+        double bankWorthRate = BuiltinModules.BANK.bankWorthRate;
+        boolean negativeWorth = plugin.getSettings().isNegativeWorth();
+        BigDecimal rawLevel = this.islandLevel.get();
+        BigDecimal bonusLevel = this.bonusLevel.get();
+        boolean roundedLevels = plugin.getSettings().isRoundedIslandLevels();
+        boolean negativeLevel = plugin.getSettings().isNegativeLevel();
+        int ratingsVersion = this.ratingsVersion.get();
+
+        IslandRankingSnapshot rankingSnapshot = this.rankingSnapshot;
+
+        if (rankingSnapshot == null || !rankingSnapshot.isValid(rawWorth, bankBalance, bonusWorth, bankWorthRate,
+                negativeWorth, rawLevel, bonusLevel, roundedLevels, negativeLevel, ratingsVersion)) {
+            double totalRating = 0;
+
+            for (Rating rating : ratings.values())
+                totalRating += rating.getValue();
+
+            if (totalRating != 0)
+                totalRating /= getRatingAmount();
+
+            this.rankingSnapshot = rankingSnapshot = new IslandRankingSnapshot(rawWorth, bankBalance, bonusWorth,
+                    bankWorthRate, negativeWorth, rawLevel, bonusLevel, roundedLevels, negativeLevel,
+                    ratingsVersion, totalRating);
+        }
+
+        return rankingSnapshot;
+    }
+
     private void finishCalcIsland(SuperiorPlayer asker, Runnable callback, BigDecimal islandLevel, BigDecimal islandWorth) {
         EventsCaller.callIslandWorthCalculatedEvent(this, asker, islandLevel, islandWorth);
 
@@ -6,29 +6,50 @@ import com.bgsoftware.superiorskyblock.api.island.IslandChest;
 import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
 import com.bgsoftware.superiorskyblock.database.bridge.IslandsDatabaseBridge;
 import com.bgsoftware.superiorskyblock.threads.Executor;
+import com.bgsoftware.superiorskyblock.utils.items.ItemUtils;
 import com.google.common.base.Preconditions;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public final class SIslandChest implements IslandChest {
 
+    // The interval, in ticks, between checks for idle chests to unload.
+    public static final long UNLOAD_CHECK_INTERVAL = 1200L;
+
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
+    // Chests that were loaded lazily, and therefore can be unloaded when they are idle.
+    private static final Set<SIslandChest> loadedLazyChests = ConcurrentHashMap.newKeySet();
+
     private final AtomicBoolean updateFlag = new AtomicBoolean(false);
     private final Island island;
     private final int index;
-    private Inventory inventory = Bukkit.createInventory(this, 9, plugin.getSettings().getIslandChests().getChestTitle());
+    @Nullable
+    private Inventory inventory;
+    // The contents of the chest while it is unloaded.
+    @Nullable
+    private String serializedContents;
+    private long lastAccessTime;
     private int contentsUpdateCounter = 0;
 
     public SIslandChest(Island island, int index) {
+        this(island, index, null);
+        this.inventory = Bukkit.createInventory(this, 9, plugin.getSettings().getIslandChests().getChestTitle());
+    }
+
+    private SIslandChest(Island island, int index, @Nullable String serializedContents) {
         this.island = island;
         this.index = index;
+        this.serializedContents = serializedContents;
     }
 
     public static SIslandChest createChest(Island island, int index, ItemStack[] contents) {
@@ -38,6 +59,31 @@ public final class SIslandChest implements IslandChest {
         return islandChest;
     }
 
+    /**
+     * Create a chest that its contents are loaded only when it is accessed.
+     *
+     * @param island             The island of the chest.
+     * @param index              The index of the chest.
+     * @param serializedContents The serialized contents of the chest.
+     */
+    public static SIslandChest createLazyChest(Island island, int index, String serializedContents) {
+        return new SIslandChest(island, index, serializedContents);
+    }
+
+    /**
+     * Unload the contents of lazily loaded chests that were not accessed for the idle time in the settings.
+     * Chests that are viewed by players are kept loaded.
+     */
+    public static void unloadIdleChests() {
+        long unloadIdleTime = plugin.getSettings().getIslandChests().getUnloadIdleTime();
+
+        if (unloadIdleTime <= 0 || loadedLazyChests.isEmpty())
+            return;
+
+        long idleSince = System.currentTimeMillis() - unloadIdleTime * 1000;
+        loadedLazyChests.removeIf(islandChest -> islandChest.unloadIfIdle(idleSince));
+    }
+
     @Override
     public Island getIsland() {
         return island;
@@ -50,7 +96,7 @@ public final class SIslandChest implements IslandChest {
 
     @Override
     public int getRows() {
-        return inventory.getSize() / 9;
+        return loadInventory().getSize() / 9;
     }
 
     @Override
@@ -58,9 +104,9 @@ public final class SIslandChest implements IslandChest {
         Executor.ensureMain(() -> {
             try {
                 updateFlag.set(true);
-                ItemStack[] oldContents = inventory.getContents();
-                List<HumanEntity> toUpdate = new ArrayList<>(inventory.getViewers());
-                Inventory oldInventory = inventory;
+                Inventory oldInventory = loadInventory();
+                ItemStack[] oldContents = oldInventory.getContents();
+                List<HumanEntity> toUpdate = new ArrayList<>(oldInventory.getViewers());
                 inventory = Bukkit.createInventory(this, 9 * rows, plugin.getSettings().getIslandChests().getChestTitle());
                 inventory.setContents(Arrays.copyOf(oldContents, 9 * rows));
                 toUpdate.forEach(humanEntity -> {
@@ -74,8 +120,9 @@ public final class SIslandChest implements IslandChest {
     }
 
     @Override
-    public ItemStack[] getContents() {
-        return inventory.getContents();
+    public synchronized ItemStack[] getContents() {
+        // The contents of unloaded chests are read without loading them, as they are usually read for saving.
+        return inventory == null ? ItemUtils.deserialize(serializedContents) : inventory.getContents();
     }
 
     @Override
@@ -86,7 +133,7 @@ public final class SIslandChest implements IslandChest {
 
     @Override
     public Inventory getInventory() {
-        return inventory;
+        return loadInventory();
     }
 
     public boolean isUpdating() {
@@ -102,4 +149,37 @@ public final class SIslandChest implements IslandChest {
         }
     }
 
+    private synchronized Inventory loadInventory() {
+        if (inventory == null) {
+            ItemStack[] contents = ItemUtils.deserialize(serializedContents);
+            inventory = Bukkit.createInventory(this, contents.length, plugin.getSettings().getIslandChests().getChestTitle());
+            inventory.setContents(contents);
+            serializedContents = null;
+            loadedLazyChests.add(this);
+        }
+
+        lastAccessTime = System.currentTimeMillis();
+
+        return inventory;
+    }
+
+    private synchronized boolean unloadIfIdle(long idleSince) {
+        if (inventory == null)
+            return true;
+
+        if (lastAccessTime > idleSince || isUpdating() || !inventory.getViewers().isEmpty())
+            return false;
+
+        String serializedContents = ItemUtils.serialize(inventory.getContents());
+
+        // The contents could not be serialized, therefore they are kept loaded so they are not lost.
+        if (serializedContents.isEmpty())
+            return false;
+
+        this.serializedContents = serializedContents;
+        this.inventory = null;
+
+        return true;
+    }
+
 }
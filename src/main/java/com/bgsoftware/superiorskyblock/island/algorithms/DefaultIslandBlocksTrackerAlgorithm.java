@@ -5,9 +5,11 @@ import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.algorithms.IslandBlocksTrackerAlgorithm;
 import com.bgsoftware.superiorskyblock.api.key.Key;
 import com.bgsoftware.superiorskyblock.key.dataset.KeyMap;
+import com.bgsoftware.superiorskyblock.structure.BigIntegerCounter;
 import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
 import com.bgsoftware.superiorskyblock.utils.islands.IslandUtils;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -18,7 +20,9 @@ public final class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTr
 
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
 
-    private final KeyMap<BigInteger> blockCounts = new KeyMap<>();
+    private final KeyMap<BigIntegerCounter> blockCounts = new KeyMap<>();
+    private final Map<Key, BigInteger> blockCountsView = Collections.unmodifiableMap(
+            Maps.transformValues(blockCounts, BigIntegerCounter::get));
 
     private final Island island;
     private boolean loadingDataMode = false;
@@ -115,18 +119,20 @@ public final class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTr
     @Override
     public BigInteger getBlockCount(Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
-        return blockCounts.getOrDefault(key, BigInteger.ZERO);
+        BigIntegerCounter blockCount = blockCounts.get(key);
+        return blockCount == null ? BigInteger.ZERO : blockCount.get();
     }
 
     @Override
     public BigInteger getExactBlockCount(Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
-        return blockCounts.getRaw(key, BigInteger.ZERO);
+        BigIntegerCounter blockCount = blockCounts.getRaw(key, null);
+        return blockCount == null ? BigInteger.ZERO : blockCount.get();
     }
 
     @Override
     public Map<Key, BigInteger> getBlockCounts() {
-        return Collections.unmodifiableMap(this.blockCounts);
+        return this.blockCountsView;
     }
 
     @Override
@@ -144,8 +150,7 @@ public final class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTr
 
         PluginDebugger.debug("Action: Count Increase, Block: " + valueKey + ", Amount: " + amount);
 
-        BigInteger currentAmount = blockCounts.getRaw(valueKey, BigInteger.ZERO);
-        blockCounts.put(valueKey, currentAmount.add(amount));
+        increaseCount(valueKey, amount);
 
         if (loadingDataMode)
             return;
@@ -156,8 +161,7 @@ public final class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTr
 
         if (!limitKey.equals(valueKey)) {
             PluginDebugger.debug("Action: Count Increase, Block: " + limitKey + ", Amount: " + amount + " - Limit Key");
-            currentAmount = blockCounts.getRaw(limitKey, BigInteger.ZERO);
-            blockCounts.put(limitKey, currentAmount.add(amount));
+            increaseCount(limitKey, amount);
             limitCount = true;
         }
 
@@ -165,18 +169,28 @@ public final class DefaultIslandBlocksTrackerAlgorithm implements IslandBlocksTr
                 (plugin.getBlockValues().getBlockWorth(globalKey).doubleValue() != 0 ||
                         plugin.getBlockValues().getBlockLevel(globalKey).doubleValue() != 0)) {
             PluginDebugger.debug("Action: Count Increase, Block: " + globalKey + ", Amount: " + amount + " - Global Key");
-            currentAmount = blockCounts.getRaw(globalKey, BigInteger.ZERO);
-            blockCounts.put(globalKey, currentAmount.add(amount));
+            increaseCount(globalKey, amount);
         }
     }
 
     private void removeCounts(com.bgsoftware.superiorskyblock.api.key.Key key, BigInteger amount) {
         PluginDebugger.debug("Action: Count Decrease, Block: " + key + ", Amount: " + amount);
-        BigInteger currentAmount = blockCounts.getRaw(key, BigInteger.ZERO);
-        if (currentAmount.compareTo(amount) <= 0)
+        BigIntegerCounter currentAmount = blockCounts.getRaw(key, null);
+        if (currentAmount == null || currentAmount.compareTo(amount) <= 0)
             blockCounts.remove(key);
         else
-            blockCounts.put(key, currentAmount.subtract(amount));
+            currentAmount.subtract(amount);
+    }
+
+    private void increaseCount(Key key, BigInteger amount) {
+        BigIntegerCounter currentAmount = blockCounts.getRaw(key, null);
+
+        if (currentAmount == null) {
+            currentAmount = new BigIntegerCounter();
+            blockCounts.put(key, currentAmount);
+        }
+
+        currentAmount.add(amount);
     }
 
 }
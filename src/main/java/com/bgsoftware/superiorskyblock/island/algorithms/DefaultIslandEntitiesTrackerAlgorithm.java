@@ -1,18 +1,18 @@
 package com.bgsoftware.superiorskyblock.island.algorithms;
 
-import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.algorithms.IslandEntitiesTrackerAlgorithm;
 import com.bgsoftware.superiorskyblock.api.key.Key;
 import com.bgsoftware.superiorskyblock.key.dataset.KeyMap;
+import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
+import com.google.common.base.Preconditions;
 
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.Map;
 
 public final class DefaultIslandEntitiesTrackerAlgorithm implements IslandEntitiesTrackerAlgorithm {
 
-    private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
-
     private final KeyMap<BigInteger> entityCounts = new KeyMap<>();
 
     private final Island island;
@@ -23,27 +23,59 @@ public final class DefaultIslandEntitiesTrackerAlgorithm implements IslandEntiti
 
     @Override
     public boolean trackEntity(Key key, BigInteger amount) {
-        return false;
+        Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        Preconditions.checkNotNull(amount, "amount parameter cannot be null.");
+
+        if (amount.compareTo(BigInteger.ZERO) <= 0)
+            return false;
+
+        PluginDebugger.debug("Action: Entity Spawn, Island: " + island.getOwner().getName() +
+                ", Entity: " + key + ", Amount: " + amount);
+
+        BigInteger currentAmount = entityCounts.getRaw(key, BigInteger.ZERO);
+        entityCounts.put(key, currentAmount.add(amount));
+
+        return true;
     }
 
     @Override
     public boolean untrackEntity(Key key, BigInteger amount) {
-        return false;
+        Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        Preconditions.checkNotNull(amount, "amount parameter cannot be null.");
+
+        if (amount.compareTo(BigInteger.ZERO) <= 0)
+            return false;
+
+        BigInteger currentAmount = entityCounts.getRaw(key, null);
+
+        if (currentAmount == null)
+            return false;
+
+        PluginDebugger.debug("Action: Entity Despawn, Island: " + island.getOwner().getName() +
+                ", Entity: " + key + ", Amount: " + amount);
+
+        if (currentAmount.compareTo(amount) <= 0)
+            entityCounts.remove(key);
+        else
+            entityCounts.put(key, currentAmount.subtract(amount));
+
+        return true;
     }
 
     @Override
     public BigInteger getEntityCount(Key key) {
-        return null;
+        Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        return entityCounts.getOrDefault(key, BigInteger.ZERO);
     }
 
     @Override
     public Map<Key, BigInteger> getEntitiesCounts() {
-        return null;
+        return Collections.unmodifiableMap(entityCounts);
     }
 
     @Override
     public void clearEntityCounts() {
-
+        entityCounts.clear();
     }
 
 }
@@ -55,6 +55,7 @@ public final class SIslandBank implements IslandBank {
     @Override
     public void setBalance(BigDecimal balance) {
         this.balance.set(balance.setScale(2, RoundingMode.HALF_DOWN));
+        plugin.getGrid().getIslandsContainer().notifyChange(island);
     }
 
     @Override
@@ -269,6 +270,7 @@ public final class SIslandBank implements IslandBank {
 
     private void increaseBalance(BigDecimal amount) {
         this.balance.updateAndGet(bigDecimal -> bigDecimal.add(amount).setScale(2, RoundingMode.HALF_DOWN));
+        plugin.getGrid().getIslandsContainer().notifyChange(island);
         IslandsDatabaseBridge.saveBankBalance(island);
     }
 
@@ -4,8 +4,8 @@ import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.island.SortingType;
 import com.bgsoftware.superiorskyblock.api.island.container.IslandsContainer;
-import com.bgsoftware.superiorskyblock.island.IslandPosition;
 import com.bgsoftware.superiorskyblock.structure.SortedRegistry;
+import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.jetbrains.annotations.Nullable;
@@ -24,7 +24,7 @@ public final class DefaultIslandsContainer implements IslandsContainer {
     private static final Predicate<Island> ISLANDS_PREDICATE = island -> !island.isIgnored();
 
     private final SortedRegistry<UUID, Island, SortingType> sortedIslands = new SortedRegistry<>();
-    private final Map<IslandPosition, Island> islandsByPositions = new ConcurrentHashMap<>();
+    private final IslandsGridIndex islandsGridIndex = new IslandsGridIndex();
     private final Map<UUID, Island> islandsByUUID = new ConcurrentHashMap<>();
 
     private final SuperiorSkyblockPlugin plugin;
@@ -37,15 +37,15 @@ public final class DefaultIslandsContainer implements IslandsContainer {
     @Override
     public void addIsland(Island island) {
         Location islandLocation = island.getCenter(plugin.getSettings().getWorlds().getDefaultWorld());
-        this.islandsByPositions.put(IslandPosition.of(islandLocation), island);
+        this.islandsGridIndex.addIsland(island, islandLocation);
 
         if (plugin.getProviders().hasCustomWorldsSupport()) {
             runWithCustomWorld(islandLocation, island, World.Environment.NORMAL,
-                    location -> this.islandsByPositions.put(IslandPosition.of(location), island));
+                    location -> this.islandsGridIndex.addIsland(island, location));
             runWithCustomWorld(islandLocation, island, World.Environment.NETHER,
-                    location -> this.islandsByPositions.put(IslandPosition.of(location), island));
+                    location -> this.islandsGridIndex.addIsland(island, location));
             runWithCustomWorld(islandLocation, island, World.Environment.THE_END,
-                    location -> this.islandsByPositions.put(IslandPosition.of(location), island));
+                    location -> this.islandsGridIndex.addIsland(island, location));
         }
 
         this.islandsByUUID.put(island.getUniqueId(), island);
@@ -58,15 +58,15 @@ public final class DefaultIslandsContainer implements IslandsContainer {
 
         sortedIslands.remove(island.getOwner().getUniqueId());
         islandsByUUID.remove(island.getUniqueId());
-        islandsByPositions.remove(IslandPosition.of(islandLocation));
+        islandsGridIndex.removeIsland(island, islandLocation);
 
         if (plugin.getProviders().hasCustomWorldsSupport()) {
             runWithCustomWorld(islandLocation, island, World.Environment.NORMAL,
-                    location -> islandsByPositions.remove(IslandPosition.of(location)));
+                    location -> islandsGridIndex.removeIsland(island, location));
             runWithCustomWorld(islandLocation, island, World.Environment.NETHER,
-                    location -> islandsByPositions.remove(IslandPosition.of(location)));
+                    location -> islandsGridIndex.removeIsland(island, location));
             runWithCustomWorld(islandLocation, island, World.Environment.THE_END,
-                    location -> islandsByPositions.remove(IslandPosition.of(location)));
+                    location -> islandsGridIndex.removeIsland(island, location));
         }
     }
 
@@ -101,8 +101,23 @@ public final class DefaultIslandsContainer implements IslandsContainer {
     @Nullable
     @Override
     public Island getIslandAt(Location location) {
-        Island island = this.islandsByPositions.get(IslandPosition.of(location));
-        return island == null || !island.isInside(location) ? null : island;
+        World world = location.getWorld();
+
+        if (world == null || !plugin.getGrid().isIslandsWorld(world))
+            return null;
+
+        return this.islandsGridIndex.getIslandAt(world, location.getBlockX(), location.getBlockZ());
+    }
+
+    @Nullable
+    @Override
+    public Island getIslandAt(Chunk chunk) {
+        World world = chunk.getWorld();
+
+        if (!plugin.getGrid().isIslandsWorld(world))
+            return null;
+
+        return this.islandsGridIndex.getIslandAtChunk(world, chunk.getX(), chunk.getZ());
     }
 
     @Override
@@ -117,6 +132,11 @@ public final class DefaultIslandsContainer implements IslandsContainer {
         this.sortedIslands.sort(sortingType, ISLANDS_PREDICATE, onFinish);
     }
 
+    @Override
+    public void notifyChange(Island island) {
+        this.sortedIslands.markDirty(island.getOwner().getUniqueId());
+    }
+
     @Override
     public List<Island> getSortedIslands(SortingType sortingType) {
         return this.sortedIslands.getIslands(sortingType);
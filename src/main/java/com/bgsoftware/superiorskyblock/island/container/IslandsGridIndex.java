@@ -0,0 +1,241 @@
+package com.bgsoftware.superiorskyblock.island.container;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+
+final class IslandsGridIndex {
+
+    private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
+
+    private final Map<String, IslandsCells> worldsCells = new ConcurrentHashMap<>();
+
+    void addIsland(Island island, Location center) {
+        int centerX = center.getBlockX();
+        int centerZ = center.getBlockZ();
+        worldsCells.computeIfAbsent(getWorldName(center.getWorld()), worldName -> new IslandsCells())
+                .put(getCellKey(getCellPosition(centerX), getCellPosition(centerZ)), new IslandCell(island, centerX, centerZ));
+    }
+
+    void removeIsland(Island island, Location center) {
+        IslandsCells islandsCells = worldsCells.get(getWorldName(center.getWorld()));
+        if (islandsCells != null)
+            islandsCells.remove(getCellKey(getCellPosition(center.getBlockX()), getCellPosition(center.getBlockZ())), island);
+    }
+
+    @Nullable
+    Island getIslandAt(World world, int blockX, int blockZ) {
+        IslandsCells islandsCells = worldsCells.get(getWorldName(world));
+
+        if (islandsCells == null)
+            return null;
+
+        IslandCell islandCell = islandsCells.get(getCellKey(getCellPosition(blockX), getCellPosition(blockZ)));
+
+        return islandCell == null || !islandCell.intersects(blockX, blockZ, blockX, blockZ, getIslandDistance()) ?
+                null : islandCell.island;
+    }
+
+    @Nullable
+    Island getIslandAtChunk(World world, int chunkX, int chunkZ) {
+        IslandsCells islandsCells = worldsCells.get(getWorldName(world));
+
+        if (islandsCells == null)
+            return null;
+
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        int maxX = minX + 15;
+        int maxZ = minZ + 15;
+        int islandDistance = getIslandDistance();
+
+        // Chunks are usually contained in one cell, but they may cross the borders between cells.
+        for (int cellZ = getCellPosition(minZ); cellZ <= getCellPosition(maxZ); cellZ++) {
+            for (int cellX = getCellPosition(minX); cellX <= getCellPosition(maxX); cellX++) {
+                IslandCell islandCell = islandsCells.get(getCellKey(cellX, cellZ));
+                if (islandCell != null && islandCell.intersects(minX, minZ, maxX, maxZ, islandDistance))
+                    return islandCell.island;
+            }
+        }
+
+        return null;
+    }
+
+    private static String getWorldName(@Nullable World world) {
+        return plugin.getProviders().hasCustomWorldsSupport() && world != null ? world.getName() : "";
+    }
+
+    private static int getCellPosition(int blockPosition) {
+        int radius = plugin.getSettings().getMaxIslandSize() * 3;
+        int cellPosition = (Math.abs(blockPosition) + (radius / 2)) / radius;
+        return blockPosition < 0 ? -cellPosition : cellPosition;
+    }
+
+    private static long getCellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    private static int getIslandDistance() {
+        return (int) Math.round(plugin.getSettings().getMaxIslandSize() *
+                (plugin.getSettings().isBuildOutsideIsland() ? 1.5 : 1D));
+    }
+
+    private static final class IslandCell {
+
+        private final Island island;
+        private final int centerX;
+        private final int centerZ;
+
+        IslandCell(Island island, int centerX, int centerZ) {
+            this.island = island;
+            this.centerX = centerX;
+            this.centerZ = centerZ;
+        }
+
+        boolean intersects(int minX, int minZ, int maxX, int maxZ, int islandDistance) {
+            return centerX - islandDistance <= maxX && centerZ - islandDistance <= maxZ &&
+                    centerX + islandDistance >= minX && centerZ + islandDistance >= minZ;
+        }
+
+    }
+
+    /**
+     * Open-addressing map of cell keys to islands.
+     * Reads are lock-free and only fall back to a read lock if the map was modified while reading it.
+     */
+    private static final class IslandsCells {
+
+        private static final int INITIAL_CAPACITY = 64;
+
+        private final StampedLock lock = new StampedLock();
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private IslandCell[] values = new IslandCell[INITIAL_CAPACITY];
+        private int size = 0;
+
+        @Nullable
+        IslandCell get(long key) {
+            long stamp = lock.tryOptimisticRead();
+            IslandCell islandCell = find(keys, values, key);
+
+            if (!lock.validate(stamp)) {
+                stamp = lock.readLock();
+                try {
+                    islandCell = find(keys, values, key);
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+
+            return islandCell;
+        }
+
+        void put(long key, IslandCell islandCell) {
+            long stamp = lock.writeLock();
+            try {
+                if ((size + 1) * 4L > values.length * 3L)
+                    resize(values.length * 2);
+
+                int mask = values.length - 1;
+                int index = hash(key) & mask;
+
+                while (values[index] != null && keys[index] != key)
+                    index = (index + 1) & mask;
+
+                if (values[index] == null)
+                    ++size;
+
+                keys[index] = key;
+                values[index] = islandCell;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(long key, Island island) {
+            long stamp = lock.writeLock();
+            try {
+                int mask = values.length - 1;
+                int index = hash(key) & mask;
+
+                while (values[index] != null && keys[index] != key)
+                    index = (index + 1) & mask;
+
+                if (values[index] == null || values[index].island != island)
+                    return;
+
+                // Shifting back the following entries, so lookups will not stop at the removed slot.
+                int hole = index;
+                index = (index + 1) & mask;
+
+                while (values[index] != null) {
+                    int idealIndex = hash(keys[index]) & mask;
+                    if (((index - idealIndex) & mask) >= ((index - hole) & mask)) {
+                        keys[hole] = keys[index];
+                        values[hole] = values[index];
+                        hole = index;
+                    }
+                    index = (index + 1) & mask;
+                }
+
+                keys[hole] = 0;
+                values[hole] = null;
+                --size;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void resize(int capacity) {
+            long[] oldKeys = keys;
+            IslandCell[] oldValues = values;
+            long[] newKeys = new long[capacity];
+            IslandCell[] newValues = new IslandCell[capacity];
+            int mask = capacity - 1;
+
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    int index = hash(oldKeys[i]) & mask;
+                    while (newValues[index] != null)
+                        index = (index + 1) & mask;
+                    newKeys[index] = oldKeys[i];
+                    newValues[index] = oldValues[i];
+                }
+            }
+
+            keys = newKeys;
+            values = newValues;
+        }
+
+        @Nullable
+        private static IslandCell find(long[] keys, IslandCell[] values, long key) {
+            // The arrays may be read in the middle of a resize, therefore the bounds of both are respected.
+            int mask = Math.min(keys.length, values.length) - 1;
+            int index = hash(key) & mask;
+
+            for (int i = 0; i <= mask; i++) {
+                IslandCell islandCell = values[index];
+                if (islandCell == null)
+                    return null;
+                if (keys[index] == key)
+                    return islandCell;
+                index = (index + 1) & mask;
+            }
+
+            return null;
+        }
+
+        private static int hash(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32));
+        }
+
+    }
+
+}
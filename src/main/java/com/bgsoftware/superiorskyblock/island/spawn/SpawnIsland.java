@@ -72,6 +72,10 @@ public final class SpawnIsland implements Island {
     private final PriorityQueue<SuperiorPlayer> playersInside = new PriorityQueue<>(SortingComparators.PLAYER_NAMES_COMPARATOR);
     private final Location center;
     private final int islandSize;
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
     private Biome biome = Biome.PLAINS;
 
     public SpawnIsland(SuperiorSkyblockPlugin plugin) {
@@ -83,6 +87,10 @@ public final class SpawnIsland implements Island {
         assert smartCenter != null;
         center = smartCenter.add(0.5, 0, 0.5);
         islandSize = plugin.getSettings().getSpawn().getSize();
+        minX = (int) Math.floor(center.getX() - islandSize);
+        minZ = (int) Math.floor(center.getZ() - islandSize);
+        maxX = (int) Math.floor(center.getX() + islandSize);
+        maxZ = (int) Math.floor(center.getZ() + islandSize);
 
         if (center.getWorld() == null)
             plugin.getProviders().runWorldsListeners(spawnLocation.split(",")[0]);
@@ -151,6 +159,11 @@ public final class SpawnIsland implements Island {
         return Collections.unmodifiableList(new ArrayList<>(playersInside));
     }
 
+    @Override
+    public int getAllPlayersInsideAmount() {
+        return playersInside.size();
+    }
+
     @Override
     public List<SuperiorPlayer> getUniqueVisitors() {
         return Collections.emptyList();
@@ -438,14 +451,11 @@ public final class SpawnIsland implements Island {
 
     @Override
     public boolean isInside(Location location) {
-        if (!location.getWorld().equals(getCenter(plugin.getSettings().getWorlds().getDefaultWorld()).getWorld()))
+        if (!location.getWorld().equals(center.getWorld()))
             return false;
 
-        Location min = getMinimum();
-        Location max = getMaximum();
-
-        return min.getBlockX() <= location.getBlockX() && min.getBlockZ() <= location.getBlockZ() &&
-                max.getBlockX() >= location.getBlockX() && max.getBlockZ() >= location.getBlockZ();
+        return minX <= location.getBlockX() && minZ <= location.getBlockZ() &&
+                maxX >= location.getBlockX() && maxZ >= location.getBlockZ();
     }
 
     @Override
@@ -460,14 +470,11 @@ public final class SpawnIsland implements Island {
 
     @Override
     public boolean isInsideRange(Chunk chunk) {
-        if (!chunk.getWorld().equals(getCenter(plugin.getSettings().getWorlds().getDefaultWorld()).getWorld()))
+        if (!chunk.getWorld().equals(center.getWorld()))
             return false;
 
-        Location min = getMinimum();
-        Location max = getMaximum();
-
-        return (min.getBlockX() >> 4) <= chunk.getX() && (min.getBlockZ() >> 4) <= chunk.getZ() &&
-                (max.getBlockX() >> 4) >= chunk.getX() && (max.getBlockZ() >> 4) >= chunk.getZ();
+        return (minX >> 4) <= chunk.getX() && (minZ >> 4) <= chunk.getZ() &&
+                (maxX >> 4) >= chunk.getX() && (maxZ >> 4) >= chunk.getZ();
     }
 
     @Override
@@ -624,6 +631,11 @@ public final class SpawnIsland implements Island {
         // Do nothing.
     }
 
+    @Override
+    public void markForFullCalculation() {
+        // Do nothing.
+    }
+
     @Override
     public IslandCalculationAlgorithm getCalculationAlgorithm() {
         return SpawnIslandCalculationAlgorithm.getInstance();
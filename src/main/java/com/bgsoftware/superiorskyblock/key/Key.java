@@ -13,22 +13,37 @@ import org.bukkit.entity.EntityType;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 public final class Key implements com.bgsoftware.superiorskyblock.api.key.Key {
 
     private static final Pattern LEGACY_PATTERN = Pattern.compile("LEGACY_");
     private static final Pattern KEY_SPLITTER_PATTERN = Pattern.compile("[:;]");
+    private static final int CACHED_MATERIAL_DATA_VALUES = 16;
 
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
 
+    // Canonical keys, mapped by their global keys and then by their sub keys.
+    private static final Map<String, Map<String, Key>> INTERNED_KEYS = new ConcurrentHashMap<>();
+    private static final Map<String, Key> PARSED_KEYS = new ConcurrentHashMap<>();
+    private static final Key[][] MATERIAL_KEYS = new Key[Material.values().length][];
+    private static final AtomicInteger KEYS_COUNTER = new AtomicInteger(0);
+
+    private final int id;
     private final String globalKey;
     private final String subKey;
-    private boolean apiKey = false;
+    private final String key;
+    private final boolean apiKey;
 
-    private Key(String globalKey, String subKey) {
+    private Key(int id, String globalKey, String subKey, boolean apiKey) {
+        this.id = id;
         this.globalKey = globalKey;
         this.subKey = subKey;
+        this.key = subKey.isEmpty() ? globalKey : globalKey + ":" + subKey;
+        this.apiKey = apiKey;
     }
 
     public static Key of(EntityType entityType) {
@@ -62,16 +77,28 @@ public final class Key implements com.bgsoftware.superiorskyblock.api.key.Key {
     }
 
     public static Key of(Material material, short data) {
-        return of(of(material + "", data + ""), new ItemStack(material, 1, data));
+        Key key = ofMaterialAndData(material, data);
+        // The item is only needed for custom key parsers, therefore it's not created for other keys.
+        return plugin.getBlockValues().hasCustomKeyParser(key) ? of(key, new ItemStack(material, 1, data)) : key;
     }
 
     public static Key of(String globalKey, String subKey) {
-        return new Key(LEGACY_PATTERN.matcher(globalKey).replaceAll(""), subKey);
+        if (globalKey.contains("LEGACY_"))
+            globalKey = LEGACY_PATTERN.matcher(globalKey).replaceAll("");
+
+        return intern(globalKey, subKey);
     }
 
     public static Key of(String key) {
-        String[] sections = KEY_SPLITTER_PATTERN.split(key);
-        return new Key(sections[0], sections.length == 2 ? sections[1] : "");
+        Key parsedKey = PARSED_KEYS.get(key);
+
+        if (parsedKey == null) {
+            String[] sections = KEY_SPLITTER_PATTERN.split(key);
+            parsedKey = intern(sections[0], sections.length == 2 ? sections[1] : "");
+            PARSED_KEYS.put(key, parsedKey);
+        }
+
+        return parsedKey;
     }
 
     public static Key of(Material material, short data, Location location) {
@@ -94,6 +121,43 @@ public final class Key implements com.bgsoftware.superiorskyblock.api.key.Key {
         return plugin.getBlockValues().convertKey(key, entity);
     }
 
+    private static Key ofMaterialAndData(Material material, short data) {
+        if (data < 0 || data >= CACHED_MATERIAL_DATA_VALUES)
+            return of(material + "", data + "");
+
+        Key[] materialKeys = MATERIAL_KEYS[material.ordinal()];
+
+        if (materialKeys == null)
+            materialKeys = MATERIAL_KEYS[material.ordinal()] = new Key[CACHED_MATERIAL_DATA_VALUES];
+
+        Key key = materialKeys[data];
+
+        if (key == null)
+            key = materialKeys[data] = of(material + "", data + "");
+
+        return key;
+    }
+
+    private static Key intern(String globalKey, String subKey) {
+        Map<String, Key> subKeys = INTERNED_KEYS.get(globalKey);
+
+        if (subKeys == null)
+            subKeys = INTERNED_KEYS.computeIfAbsent(globalKey, k -> new ConcurrentHashMap<>());
+
+        Key key = subKeys.get(subKey);
+
+        return key != null ? key : subKeys.computeIfAbsent(subKey, k ->
+                new Key(KEYS_COUNTER.getAndIncrement(), globalKey, subKey, false));
+    }
+
+    /**
+     * The id of the key. Keys with the same global and sub keys share the same id.
+     * Ids are dense, starting from 0.
+     */
+    public int getId() {
+        return id;
+    }
+
     @Override
     public String getGlobalKey() {
         return globalKey;
@@ -105,8 +169,8 @@ public final class Key implements com.bgsoftware.superiorskyblock.api.key.Key {
     }
 
     public Key markAPIKey() {
-        this.apiKey = true;
-        return this;
+        // Canonical keys are shared, therefore API keys are copies of them.
+        return apiKey ? this : new Key(id, globalKey, subKey, true);
     }
 
     public boolean isAPIKey() {
@@ -115,18 +179,25 @@ public final class Key implements com.bgsoftware.superiorskyblock.api.key.Key {
 
     @Override
     public int compareTo(@NotNull com.bgsoftware.superiorskyblock.api.key.Key o) {
-        return toString().compareTo(o.toString());
+        if (o instanceof Key && ((Key) o).id == id)
+            return 0;
+
+        return key.compareTo(o.toString());
     }
 
     @Override
-    @SuppressWarnings("all")
     public boolean equals(Object obj) {
-        return obj instanceof Key && toString().equals(obj.toString());
+        return obj == this || (obj instanceof Key && ((Key) obj).id == id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
     }
 
     @Override
     public String toString() {
-        return subKey.isEmpty() ? globalKey : globalKey + ":" + subKey;
+        return key;
     }
 
 }
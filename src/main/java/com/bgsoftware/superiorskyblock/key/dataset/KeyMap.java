@@ -5,6 +5,8 @@ import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -15,7 +17,8 @@ import java.util.stream.Collectors;
 
 public final class KeyMap<V> extends AbstractMap<com.bgsoftware.superiorskyblock.api.key.Key, V> implements Map<com.bgsoftware.superiorskyblock.api.key.Key, V> {
 
-    private final Map<String, V> innerMap = new ConcurrentHashMap<>();
+    // Keys are stored as canonical keys, which are hashed and compared by their ids.
+    private final Map<com.bgsoftware.superiorskyblock.api.key.Key, V> innerMap = new ConcurrentHashMap<>();
 
     public KeyMap() {
     }
@@ -45,8 +48,9 @@ public final class KeyMap<V> extends AbstractMap<com.bgsoftware.superiorskyblock
     @Override
     public V get(Object obj) {
         if (obj instanceof Key) {
-            V returnValue = innerMap.get(obj.toString());
-            return returnValue == null && !((Key) obj).getSubKey().isEmpty() ? innerMap.get(((Key) obj).getGlobalKey()) : returnValue;
+            V returnValue = innerMap.get(obj);
+            return returnValue == null && !((Key) obj).getSubKey().isEmpty() ?
+                    innerMap.get(Key.of(((Key) obj).getGlobalKey(), "")) : returnValue;
         }
 
         return null;
@@ -54,12 +58,12 @@ public final class KeyMap<V> extends AbstractMap<com.bgsoftware.superiorskyblock
 
     @Override
     public V put(com.bgsoftware.superiorskyblock.api.key.Key key, V value) {
-        return innerMap.put(key.toString(), value);
+        return innerMap.put(toCanonicalKey(key), value);
     }
 
     @Override
     public V remove(Object key) {
-        return innerMap.remove(key + "");
+        return innerMap.remove(key instanceof Key ? key : Key.of(key + ""));
     }
 
     @Override
@@ -69,7 +73,8 @@ public final class KeyMap<V> extends AbstractMap<com.bgsoftware.superiorskyblock
 
     @Override
     public Set<Entry<com.bgsoftware.superiorskyblock.api.key.Key, V>> entrySet() {
-        return asKeyMap().entrySet();
+        // Entries of the unmodifiable map cannot be changed either, so the canonical keys are kept.
+        return Collections.unmodifiableMap(innerMap).entrySet();
     }
 
     @Override
@@ -94,16 +99,16 @@ public final class KeyMap<V> extends AbstractMap<com.bgsoftware.superiorskyblock
     }
 
     public Key getKey(Key key, Key def) {
-        if (innerMap.containsKey(key.toString()))
+        if (innerMap.containsKey(key))
             return key;
-        else if (innerMap.containsKey(key.getGlobalKey()))
-            return Key.of(key.getGlobalKey(), "");
-        else
-            return def;
+
+        Key globalKey = Key.of(key.getGlobalKey(), "");
+
+        return innerMap.containsKey(globalKey) ? globalKey : def;
     }
 
     public boolean removeIf(Predicate<com.bgsoftware.superiorskyblock.api.key.Key> predicate) {
-        return innerMap.keySet().removeIf(str -> predicate.test(Key.of(str)));
+        return innerMap.keySet().removeIf(predicate);
     }
 
     public V get(ItemStack itemStack) {
@@ -123,7 +128,7 @@ public final class KeyMap<V> extends AbstractMap<com.bgsoftware.superiorskyblock
     }
 
     public V getRaw(Key key, V defaultValue) {
-        V returnValue = innerMap.get(key.toString());
+        V returnValue = innerMap.get(key);
         return returnValue == null ? defaultValue : returnValue;
     }
 
@@ -138,7 +143,11 @@ public final class KeyMap<V> extends AbstractMap<com.bgsoftware.superiorskyblock
     }
 
     public Map<com.bgsoftware.superiorskyblock.api.key.Key, V> asKeyMap() {
-        return innerMap.entrySet().stream().collect(Collectors.toMap(entry -> Key.of(entry.getKey()), Entry::getValue));
+        return new HashMap<>(innerMap);
+    }
+
+    private static com.bgsoftware.superiorskyblock.api.key.Key toCanonicalKey(com.bgsoftware.superiorskyblock.api.key.Key key) {
+        return key instanceof Key && !((Key) key).isAPIKey() ? key : Key.of(key.getGlobalKey(), key.getSubKey());
     }
 
 }
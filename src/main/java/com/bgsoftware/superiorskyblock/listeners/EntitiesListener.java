@@ -0,0 +1,127 @@
+package com.bgsoftware.superiorskyblock.listeners;
+
+import com.bgsoftware.common.reflection.ReflectMethod;
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.utils.ServerVersion;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkEntitiesTracker;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkPosition;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Hanging;
+import org.bukkit.entity.Vehicle;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.entity.EntitySpawnEvent;
+import org.bukkit.event.hanging.HangingBreakEvent;
+import org.bukkit.event.hanging.HangingPlaceEvent;
+import org.bukkit.event.vehicle.VehicleCreateEvent;
+import org.bukkit.event.vehicle.VehicleDestroyEvent;
+import org.bukkit.event.world.ChunkEvent;
+
+import java.util.List;
+
+@SuppressWarnings("unused")
+public final class EntitiesListener implements Listener {
+
+    private static final ReflectMethod<List<Entity>> ENTITIES_LOAD_GET_ENTITIES = new ReflectMethod<>(
+            "org.bukkit.event.world.EntitiesLoadEvent", "getEntities");
+    private static final ReflectMethod<List<Entity>> ENTITIES_UNLOAD_GET_ENTITIES = new ReflectMethod<>(
+            "org.bukkit.event.world.EntitiesUnloadEvent", "getEntities");
+
+    private final SuperiorSkyblockPlugin plugin;
+
+    public EntitiesListener(SuperiorSkyblockPlugin plugin) {
+        this.plugin = plugin;
+
+        // Since 1.17, entities are loaded separately from their chunks, therefore they are recounted by their own events.
+        if (ServerVersion.isAtLeast(ServerVersion.v1_17)) {
+            registerEntitiesEvent("org.bukkit.event.world.EntitiesLoadEvent", ENTITIES_LOAD_GET_ENTITIES, false);
+            registerEntitiesEvent("org.bukkit.event.world.EntitiesUnloadEvent", ENTITIES_UNLOAD_GET_ENTITIES, true);
+        }
+    }
+
+    /*
+     *  Entities are tracked before the entity limits are checked, which are done in the monitor priority.
+     */
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onEntitySpawn(EntitySpawnEvent e) {
+        // Vehicles are tracked by VehicleCreateEvent.
+        if (e.getEntity() instanceof Vehicle)
+            return;
+
+        // Older versions don't call EntitySpawnEvent for hangings, therefore they are tracked by HangingPlaceEvent.
+        if (e.getEntity() instanceof Hanging && ServerVersion.isLessThan(ServerVersion.v1_14))
+            return;
+
+        trackEntity(e.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onHangingPlace(HangingPlaceEvent e) {
+        if (ServerVersion.isLessThan(ServerVersion.v1_14))
+            trackEntity(e.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onVehicleCreate(VehicleCreateEvent e) {
+        trackEntity(e.getVehicle());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent e) {
+        untrackEntity(e.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHangingBreak(HangingBreakEvent e) {
+        untrackEntity(e.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVehicleDestroy(VehicleDestroyEvent e) {
+        untrackEntity(e.getVehicle());
+    }
+
+    private void registerEntitiesEvent(String eventClassName, ReflectMethod<List<Entity>> getEntities, boolean unload) {
+        if (!getEntities.isValid())
+            return;
+
+        try {
+            Class<? extends Event> eventClass = Class.forName(eventClassName).asSubclass(Event.class);
+            Bukkit.getPluginManager().registerEvent(eventClass, this, EventPriority.MONITOR, (listener, event) -> {
+                if (eventClass.isInstance(event))
+                    recountEntities(((ChunkEvent) event).getChunk(), getEntities.invoke(event), unload);
+            }, plugin);
+        } catch (ClassNotFoundException ignored) {
+        }
+    }
+
+    private void recountEntities(Chunk chunk, List<Entity> entities, boolean unload) {
+        Island island = plugin.getGrid().getIslandAt(chunk);
+
+        // Counts of unloaded chunks are saved, so they are kept after restarts.
+        if (island != null && !island.isSpawn())
+            ChunkEntitiesTracker.recountEntities(island, ChunkPosition.of(chunk), entities, unload);
+    }
+
+    private void trackEntity(Entity entity) {
+        Island island = plugin.getGrid().getIslandAt(entity.getLocation());
+
+        if (island != null)
+            ChunkEntitiesTracker.trackEntity(island, entity);
+    }
+
+    private void untrackEntity(Entity entity) {
+        Island island = plugin.getGrid().getIslandAt(entity.getLocation());
+
+        if (island != null)
+            ChunkEntitiesTracker.untrackEntity(island, entity);
+    }
+
+}
@@ -9,6 +9,7 @@ import com.bgsoftware.superiorskyblock.threads.Executor;
 import com.bgsoftware.superiorskyblock.utils.LocationUtils;
 import com.bgsoftware.superiorskyblock.utils.ServerVersion;
 import com.bgsoftware.superiorskyblock.utils.entities.EntityUtils;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkEntitiesTracker;
 import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Location;
@@ -70,6 +71,7 @@ public final class UpgradeTypeEntityLimits implements IUpgradeType {
 
             island.hasReachedEntityLimit(Key.of(e.getEntity())).whenComplete((result, ex) -> {
                 if (result) {
+                    ChunkEntitiesTracker.untrackEntity(island, e.getEntity());
                     if (ServerVersion.isAtLeast(ServerVersion.v1_17)) {
                         Executor.ensureMain(() -> e.getEntity().remove());
                     } else {
@@ -91,6 +93,7 @@ public final class UpgradeTypeEntityLimits implements IUpgradeType {
 
             island.hasReachedEntityLimit(Key.of(e.getEntity())).whenComplete((result, ex) -> {
                 if (result && e.getEntity().isValid() && !e.getEntity().isDead()) {
+                    ChunkEntitiesTracker.untrackEntity(island, e.getEntity());
                     e.getEntity().remove();
                     if (e.getPlayer().getGameMode() != GameMode.CREATIVE)
                         e.getPlayer().getInventory().addItem(asItemStack(e.getEntity()));
@@ -138,6 +141,7 @@ public final class UpgradeTypeEntityLimits implements IUpgradeType {
             island.hasReachedEntityLimit(Key.of(e.getVehicle())).whenComplete((result, ex) -> {
                 if (result && e.getVehicle().isValid() && !e.getVehicle().isDead()) {
                     Executor.sync(() -> {
+                        ChunkEntitiesTracker.untrackEntity(island, e.getVehicle());
                         e.getVehicle().remove();
                         if (placedVehicle != null)
                             Bukkit.getPlayer(placedVehicle).getInventory().addItem(asItemStack(e.getVehicle()));
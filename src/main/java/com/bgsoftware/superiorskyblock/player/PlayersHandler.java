@@ -56,9 +56,15 @@ public final class PlayersHandler extends AbstractHandler implements PlayersMana
         SuperiorPlayer superiorPlayer = this.playersContainer.getSuperiorPlayer(uuid);
 
         if (superiorPlayer == null) {
-            superiorPlayer = plugin.getFactory().createPlayer(uuid);
-            this.playersContainer.addPlayer(superiorPlayer);
-            PlayersDatabaseBridge.insertPlayer(superiorPlayer);
+            // Players may be requested by multiple threads, for example while loading islands.
+            synchronized (this) {
+                superiorPlayer = this.playersContainer.getSuperiorPlayer(uuid);
+                if (superiorPlayer == null) {
+                    superiorPlayer = plugin.getFactory().createPlayer(uuid);
+                    this.playersContainer.addPlayer(superiorPlayer);
+                    PlayersDatabaseBridge.insertPlayer(superiorPlayer);
+                }
+            }
         }
 
         return superiorPlayer;
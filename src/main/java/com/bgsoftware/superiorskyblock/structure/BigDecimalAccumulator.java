@@ -0,0 +1,116 @@
+package com.bgsoftware.superiorskyblock.structure;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Mutable decimal that is stored as a scaled long (fixed-point), and only promoted to a BigDecimal
+ * when its value or scale cannot be represented by a long.
+ * The results are equal, including their scales, to the results of the same BigDecimal operations.
+ */
+public final class BigDecimalAccumulator {
+
+    private static final int MAX_SCALE = 18;
+    private static final long[] POWERS_OF_TEN = new long[MAX_SCALE + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++)
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    private long unscaledValue = 0;
+    private int scale = 0;
+    private BigDecimal bigValue = null;
+
+    // The BigDecimal of the current value, kept until the value is changed.
+    private volatile BigDecimal cachedValue = BigDecimal.ZERO;
+
+    // The last multiplied value, so its unscaled value is not calculated again for every operation.
+    private BigDecimal lastMultiplier = null;
+    private long lastMultiplierUnscaledValue = 0;
+
+    public synchronized void set(BigDecimal value) {
+        if (value.scale() >= 0 && value.scale() <= MAX_SCALE && value.precision() <= MAX_SCALE) {
+            unscaledValue = value.unscaledValue().longValue();
+            scale = value.scale();
+            bigValue = null;
+        } else {
+            bigValue = value;
+        }
+
+        cachedValue = value;
+    }
+
+    /**
+     * Add value * amount to the accumulator.
+     */
+    public synchronized void add(BigDecimal value, BigInteger amount) {
+        if (!addAsLong(value, amount, false))
+            setBigValue(getBigValue().add(value.multiply(new BigDecimal(amount))));
+    }
+
+    /**
+     * Subtract value * amount from the accumulator.
+     */
+    public synchronized void subtract(BigDecimal value, BigInteger amount) {
+        if (!addAsLong(value, amount, true))
+            setBigValue(getBigValue().subtract(value.multiply(new BigDecimal(amount))));
+    }
+
+    public BigDecimal get() {
+        BigDecimal cachedValue = this.cachedValue;
+
+        if (cachedValue == null) {
+            synchronized (this) {
+                cachedValue = this.cachedValue;
+                if (cachedValue == null)
+                    this.cachedValue = cachedValue = getBigValue();
+            }
+        }
+
+        return cachedValue;
+    }
+
+    private boolean addAsLong(BigDecimal value, BigInteger amount, boolean negate) {
+        if (bigValue != null || amount.bitLength() >= 63 || value.scale() < 0 || value.scale() > MAX_SCALE)
+            return false;
+
+        if (value != lastMultiplier) {
+            if (value.precision() > MAX_SCALE)
+                return false;
+
+            lastMultiplier = value;
+            lastMultiplierUnscaledValue = value.unscaledValue().longValue();
+        }
+
+        try {
+            long term = Math.multiplyExact(lastMultiplierUnscaledValue, amount.longValue());
+            long currentValue = unscaledValue;
+            int newScale = Math.max(scale, value.scale());
+
+            // Both values are rescaled to the bigger scale, like BigDecimal#add does.
+            if (value.scale() < newScale)
+                term = Math.multiplyExact(term, POWERS_OF_TEN[newScale - value.scale()]);
+            if (scale < newScale)
+                currentValue = Math.multiplyExact(currentValue, POWERS_OF_TEN[newScale - scale]);
+
+            unscaledValue = negate ? Math.subtractExact(currentValue, term) : Math.addExact(currentValue, term);
+            scale = newScale;
+            cachedValue = null;
+            return true;
+        } catch (ArithmeticException ex) {
+            return false;
+        }
+    }
+
+    private BigDecimal getBigValue() {
+        return bigValue != null ? bigValue : BigDecimal.valueOf(unscaledValue, scale);
+    }
+
+    private void setBigValue(BigDecimal value) {
+        bigValue = value;
+        cachedValue = value;
+    }
+
+}
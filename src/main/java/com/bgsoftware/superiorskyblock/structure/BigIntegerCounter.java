@@ -0,0 +1,60 @@
+package com.bgsoftware.superiorskyblock.structure;
+
+import java.math.BigInteger;
+
+/**
+ * Mutable counter that is stored as a long, and only promoted to a BigInteger when it overflows.
+ */
+public final class BigIntegerCounter {
+
+    private volatile long value = 0;
+    private volatile BigInteger bigValue = null;
+
+    public synchronized void add(BigInteger amount) {
+        if (!addAsLong(amount, false))
+            bigValue = get().add(amount);
+    }
+
+    public synchronized void subtract(BigInteger amount) {
+        if (!addAsLong(amount, true))
+            bigValue = get().subtract(amount);
+    }
+
+    /**
+     * Compare the counter to an amount without creating a BigInteger for the counter.
+     */
+    public int compareTo(BigInteger amount) {
+        BigInteger bigValue = this.bigValue;
+
+        if (bigValue != null)
+            return bigValue.compareTo(amount);
+
+        return amount.bitLength() < 64 ? Long.compare(value, amount.longValue()) : -amount.signum();
+    }
+
+    public BigInteger get() {
+        BigInteger bigValue = this.bigValue;
+        return bigValue != null ? bigValue : BigInteger.valueOf(value);
+    }
+
+    private boolean addAsLong(BigInteger amount, boolean negate) {
+        if (bigValue != null || amount.bitLength() >= 63)
+            return false;
+
+        long longAmount = negate ? -amount.longValue() : amount.longValue();
+        long result = value + longAmount;
+
+        // Overflow happens only if both values have the same sign, which is different than the result's sign.
+        if (((value ^ result) & (longAmount ^ result)) < 0)
+            return false;
+
+        value = result;
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return get().toString();
+    }
+
+}
@@ -0,0 +1,236 @@
+package com.bgsoftware.superiorskyblock.structure;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Order-statistic tree (treap with subtree sizes) of values sorted by a comparator.
+ * Values are linked to their nodes, so they can be re-ranked or removed without relying on the comparator,
+ * which may give different results for values that changed since they were inserted.
+ */
+final class RankedTree<V> {
+
+    private final Map<V, Node<V>> nodes = new HashMap<>();
+    private final Comparator<V> comparator;
+
+    private Node<V> root;
+
+    RankedTree(Comparator<V> comparator) {
+        this.comparator = comparator;
+    }
+
+    synchronized boolean add(V value) {
+        if (nodes.containsKey(value))
+            return false;
+
+        Node<V> node = new Node<>(value);
+        nodes.put(value, node);
+        insertNode(node);
+        return true;
+    }
+
+    synchronized boolean remove(V value) {
+        Node<V> node = nodes.remove(value);
+
+        if (node == null)
+            return false;
+
+        removeNode(node);
+        return true;
+    }
+
+    @Nullable
+    synchronized V get(int index) {
+        if (index < 0 || index >= size(root))
+            return null;
+
+        Node<V> node = root;
+
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    synchronized int indexOf(V value) {
+        Node<V> node = nodes.get(value);
+
+        if (node == null)
+            return -1;
+
+        int index = size(node.left);
+
+        for (Node<V> child = node, parent = node.parent; parent != null; child = parent, parent = parent.parent) {
+            if (parent.right == child)
+                index += size(parent.left) + 1;
+        }
+
+        return index;
+    }
+
+    synchronized int size() {
+        return size(root);
+    }
+
+    synchronized List<V> toList() {
+        List<V> values = new ArrayList<>(size(root));
+        for (Node<V> node = first(); node != null; node = successor(node))
+            values.add(node.value);
+        return values;
+    }
+
+    private void insertNode(Node<V> node) {
+        node.left = node.right = node.parent = null;
+        node.size = 1;
+
+        if (root == null) {
+            root = node;
+            return;
+        }
+
+        Node<V> parent = root;
+
+        while (true) {
+            parent.size++;
+            if (comparator.compare(node.value, parent.value) < 0) {
+                if (parent.left == null) {
+                    parent.left = node;
+                    break;
+                }
+                parent = parent.left;
+            } else {
+                if (parent.right == null) {
+                    parent.right = node;
+                    break;
+                }
+                parent = parent.right;
+            }
+        }
+
+        node.parent = parent;
+
+        while (node.parent != null && node.priority > node.parent.priority)
+            rotateUp(node);
+    }
+
+    private void removeNode(Node<V> node) {
+        // Rotating the node down until it becomes a leaf.
+        while (node.left != null || node.right != null) {
+            if (node.right == null || (node.left != null && node.left.priority > node.right.priority)) {
+                rotateUp(node.left);
+            } else {
+                rotateUp(node.right);
+            }
+        }
+
+        Node<V> parent = node.parent;
+
+        if (parent == null) {
+            root = null;
+        } else if (parent.left == node) {
+            parent.left = null;
+        } else {
+            parent.right = null;
+        }
+
+        for (; parent != null; parent = parent.parent)
+            parent.size--;
+
+        node.parent = null;
+    }
+
+    private void rotateUp(Node<V> node) {
+        Node<V> parent = node.parent;
+        Node<V> grandParent = parent.parent;
+
+        if (parent.left == node) {
+            parent.left = node.right;
+            if (node.right != null)
+                node.right.parent = parent;
+            node.right = parent;
+        } else {
+            parent.right = node.left;
+            if (node.left != null)
+                node.left.parent = parent;
+            node.left = parent;
+        }
+
+        parent.parent = node;
+        node.parent = grandParent;
+
+        if (grandParent == null) {
+            root = node;
+        } else if (grandParent.left == parent) {
+            grandParent.left = node;
+        } else {
+            grandParent.right = node;
+        }
+
+        parent.size = 1 + size(parent.left) + size(parent.right);
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    @Nullable
+    private Node<V> first() {
+        Node<V> node = root;
+
+        if (node != null) {
+            while (node.left != null)
+                node = node.left;
+        }
+
+        return node;
+    }
+
+    @Nullable
+    private static <V> Node<V> successor(Node<V> node) {
+        if (node.right != null) {
+            node = node.right;
+            while (node.left != null)
+                node = node.left;
+            return node;
+        }
+
+        Node<V> parent = node.parent;
+
+        while (parent != null && parent.right == node) {
+            node = parent;
+            parent = parent.parent;
+        }
+
+        return parent;
+    }
+
+    private static int size(@Nullable Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<V> {
+
+        private final V value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        private Node<V> left;
+        private Node<V> right;
+        private Node<V> parent;
+        private int size = 1;
+
+        Node(V value) {
+            this.value = value;
+        }
+
+    }
+
+}
@@ -2,22 +2,20 @@ package com.bgsoftware.superiorskyblock.structure;
 
 import com.bgsoftware.superiorskyblock.threads.Executor;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.Iterables;
 import org.bukkit.Bukkit;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.function.Predicate;
 
 public final class SortedRegistry<K, V, Z extends Comparator<V>> {
 
-    private final Map<Z, Set<V>> sortedValues = new ConcurrentHashMap<>();
+    private final Map<Z, RankedTree<V>> sortedValues = new ConcurrentHashMap<>();
+    private final Map<Z, Set<K>> dirtyKeys = new ConcurrentHashMap<>();
     private final Map<K, V> innerMap = new ConcurrentHashMap<>();
 
     public V get(K key) {
@@ -26,31 +24,46 @@ public final class SortedRegistry<K, V, Z extends Comparator<V>> {
 
     public V get(int index, Z sortingType) {
         ensureType(sortingType);
-        return index >= sortedValues.get(sortingType).size() ? null : Iterables.get(sortedValues.get(sortingType), index);
+        return sortedValues.get(sortingType).get(index);
     }
 
     public int indexOf(V value, Z sortingType) {
         ensureType(sortingType);
-        return Iterables.indexOf(sortedValues.get(sortingType), value::equals);
+        return sortedValues.get(sortingType).indexOf(value);
     }
 
-    public V put(K key, V value) {
-        for (Set<V> sortedTree : sortedValues.values())
+    public synchronized V put(K key, V value) {
+        for (RankedTree<V> sortedTree : sortedValues.values())
             sortedTree.add(value);
-        return innerMap.put(key, value);
+        V oldValue = innerMap.put(key, value);
+        // The value is checked against the predicate of the sorting types in their next sort.
+        markDirty(key);
+        return oldValue;
     }
 
-    public V remove(K key) {
+    public synchronized V remove(K key) {
         V value = innerMap.remove(key);
         if (value != null) {
-            for (Set<V> sortedTree : sortedValues.values())
+            for (RankedTree<V> sortedTree : sortedValues.values())
                 sortedTree.remove(value);
         }
         return value;
     }
 
+    /**
+     * Mark the value of a key to be re-sorted.
+     * Only values that were marked are re-sorted, therefore this should be called whenever a value
+     * of the element that is used by the sorting types or their predicate is changed.
+     *
+     * @param key The key of the changed value.
+     */
+    public void markDirty(K key) {
+        for (Set<K> dirtyKeys : this.dirtyKeys.values())
+            dirtyKeys.add(key);
+    }
+
     public List<V> getIslands(Z sortingType) {
-        return Collections.unmodifiableList(new ArrayList<>(this.sortedValues.get(sortingType)));
+        return Collections.unmodifiableList(this.sortedValues.get(sortingType).toList());
     }
 
     public void sort(Z sortingType, Predicate<V> predicate, Runnable onFinish) {
@@ -61,24 +74,42 @@ public final class SortedRegistry<K, V, Z extends Comparator<V>> {
 
         ensureType(sortingType);
 
-        Set<V> newSortedTree = new ConcurrentSkipListSet<>(sortingType);
+        RankedTree<V> sortedTree = sortedValues.get(sortingType);
+        Set<K> dirtyKeys = this.dirtyKeys.get(sortingType);
 
-        for (V element : innerMap.values()) {
-            if (predicate == null || predicate.test(element))
-                newSortedTree.add(element);
-        }
+        synchronized (this) {
+            for (K key : dirtyKeys) {
+                // Keys that are marked again while sorting are kept for the next sort.
+                if (!dirtyKeys.remove(key))
+                    continue;
 
-        sortedValues.put(sortingType, newSortedTree);
+                V element = innerMap.get(key);
+
+                // Removed elements were already removed from the sorted trees.
+                if (element == null)
+                    continue;
+
+                // Only elements that their values were changed are re-ranked.
+                sortedTree.remove(element);
+                if (predicate == null || predicate.test(element))
+                    sortedTree.add(element);
+            }
+        }
 
         if (onFinish != null)
             onFinish.run();
     }
 
-    public void registerSortingType(Z sortingType, boolean sort, Predicate<V> predicate) {
+    public synchronized void registerSortingType(Z sortingType, boolean sort, Predicate<V> predicate) {
         Preconditions.checkArgument(!sortedValues.containsKey(sortingType), "You cannot register an existing sorting type to the database.");
 
-        Set<V> sortedIslands = new ConcurrentSkipListSet<>(sortingType);
-        sortedIslands.addAll(innerMap.values());
+        RankedTree<V> sortedIslands = new RankedTree<>(sortingType);
+        Set<K> dirtyKeys = ConcurrentHashMap.newKeySet();
+        innerMap.forEach((key, value) -> {
+            sortedIslands.add(value);
+            dirtyKeys.add(key);
+        });
+        this.dirtyKeys.put(sortingType, dirtyKeys);
         sortedValues.put(sortingType, sortedIslands);
 
         if (sort)
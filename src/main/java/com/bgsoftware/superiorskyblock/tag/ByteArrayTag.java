@@ -49,6 +49,7 @@ import java.io.IOException;
 public final class ByteArrayTag extends Tag<byte[]> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagByteArray");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, byte[].class);
 
     /**
      * Creates the tag.
@@ -56,7 +57,7 @@ public final class ByteArrayTag extends Tag<byte[]> {
      * @param value The value.
      */
     public ByteArrayTag(byte[] value) {
-        super(value, CLASS, byte[].class);
+        super(value, FACTORY);
     }
 
     public static ByteArrayTag fromNBT(Object tag) {
@@ -47,6 +47,7 @@ import java.io.IOException;
 public final class ByteTag extends Tag<Byte> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagByte");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, byte.class);
 
     /**
      * Creates the tag.
@@ -54,7 +55,7 @@ public final class ByteTag extends Tag<Byte> {
      * @param value The value.
      */
     public ByteTag(byte value) {
-        super(value, CLASS, byte.class);
+        super(value, FACTORY);
     }
 
     public static ByteTag fromNBT(Object tag) {
@@ -53,13 +53,14 @@ import java.util.Set;
 public final class CompoundTag extends Tag<Map<String, Tag<?>>> implements Iterable<Tag<?>> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagCompound");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.ofConstructor(CLASS);
 
     public CompoundTag() {
         this(new HashMap<>());
     }
 
     public CompoundTag(CompoundTag other) {
-        super(new HashMap<>(other.value), CLASS);
+        super(new HashMap<>(other.value), FACTORY);
     }
 
 
@@ -69,7 +70,7 @@ public final class CompoundTag extends Tag<Map<String, Tag<?>>> implements Itera
      * @param value The value.
      */
     public CompoundTag(Map<String, Tag<?>> value) {
-        super(value, CLASS);
+        super(value, FACTORY);
     }
 
     public static CompoundTag fromNBT(Object tag) {
@@ -191,7 +192,7 @@ public final class CompoundTag extends Tag<Map<String, Tag<?>>> implements Itera
     @Override
     public Object toNBT() {
         try {
-            Object nbtTagCompound = CONSTRUCTOR.newInstance();
+            Object nbtTagCompound = FACTORY.create();
 
             for (Map.Entry<String, Tag<?>> entry : value.entrySet()) {
                 plugin.getNMSTags().setNBTCompoundTagValue(nbtTagCompound, entry.getKey(), entry.getValue().toNBT());
@@ -47,6 +47,7 @@ import java.io.IOException;
 public final class DoubleTag extends Tag<Double> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagDouble");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, double.class);
 
     /**
      * Creates the tag.
@@ -54,7 +55,7 @@ public final class DoubleTag extends Tag<Double> {
      * @param value The value.
      */
     public DoubleTag(double value) {
-        super(value, CLASS, double.class);
+        super(value, FACTORY);
     }
 
     public static DoubleTag fromNBT(Object tag) {
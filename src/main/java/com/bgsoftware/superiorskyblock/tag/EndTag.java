@@ -45,12 +45,13 @@ import java.io.IOException;
 public final class EndTag extends Tag<Object> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagEnd");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS);
 
     /**
      * Creates the tag.
      */
     public EndTag() {
-        super(null, CLASS);
+        super(null, FACTORY);
     }
 
     public static EndTag fromStream(DataInputStream is, int depth) throws IOException {
@@ -48,6 +48,7 @@ import java.io.IOException;
 public final class FloatTag extends Tag<Float> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagFloat");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, float.class);
 
     /**
      * Creates the tag.
@@ -55,7 +56,7 @@ public final class FloatTag extends Tag<Float> {
      * @param value The value.
      */
     public FloatTag(float value) {
-        super(value, CLASS, float.class);
+        super(value, FACTORY);
     }
 
     public static FloatTag fromNBT(Object tag) {
@@ -54,6 +54,7 @@ import java.util.UUID;
 public final class IntArrayTag extends Tag<int[]> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagIntArray");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, int[].class);
 
     /**
      * Creates the tag.
@@ -61,7 +62,7 @@ public final class IntArrayTag extends Tag<int[]> {
      * @param value The value.
      */
     public IntArrayTag(int[] value) {
-        super(value, CLASS, int[].class);
+        super(value, FACTORY);
     }
 
     public static IntArrayTag fromNBT(Object tag) {
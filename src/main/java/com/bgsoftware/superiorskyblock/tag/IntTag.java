@@ -47,9 +47,10 @@ import java.io.IOException;
 public final class IntTag extends Tag<Integer> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagInt");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, int.class);
 
     public IntTag(int value) {
-        super(value, CLASS, int.class);
+        super(value, FACTORY);
     }
 
     public static IntTag fromNBT(Object tag) {
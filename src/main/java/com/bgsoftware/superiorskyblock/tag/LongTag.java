@@ -48,9 +48,10 @@ import java.io.IOException;
 public final class LongTag extends Tag<Long> {
 
     static final Class<?> CLASS = getNNTClass("NBTTagLong");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, long.class);
 
     public LongTag(long value) {
-        super(value, CLASS, long.class);
+        super(value, FACTORY);
     }
 
     public static LongTag fromNBT(Object tag) {
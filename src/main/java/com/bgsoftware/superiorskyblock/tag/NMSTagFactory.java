@@ -0,0 +1,109 @@
+package com.bgsoftware.superiorskyblock.tag;
+
+import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Creates NMS tags of a type from their values.
+ * The factory method or constructor of the type is resolved once, when the first tag of the type is created.
+ */
+final class NMSTagFactory {
+
+    private final Class<?> tagClass;
+    private final Class<?>[] parameterTypes;
+    private final boolean constructorOnly;
+
+    private volatile MethodHandle factory;
+
+    private NMSTagFactory(Class<?> tagClass, Class<?>[] parameterTypes, boolean constructorOnly) {
+        this.tagClass = tagClass;
+        this.parameterTypes = parameterTypes;
+        this.constructorOnly = constructorOnly;
+    }
+
+    /**
+     * Create a factory that uses the static method "a" of the type, or its constructor if the method doesn't exist.
+     */
+    static NMSTagFactory of(Class<?> tagClass, Class<?>... parameterTypes) {
+        return new NMSTagFactory(tagClass, parameterTypes, false);
+    }
+
+    /**
+     * Create a factory that uses the constructor of the type.
+     */
+    static NMSTagFactory ofConstructor(Class<?> tagClass, Class<?>... parameterTypes) {
+        return new NMSTagFactory(tagClass, parameterTypes, true);
+    }
+
+    Object create() {
+        try {
+            return getFactory().invokeExact();
+        } catch (Throwable error) {
+            throw new IllegalStateException("Cannot create tag of " + tagClass, error);
+        }
+    }
+
+    Object create(Object value) {
+        try {
+            return parameterTypes.length == 0 ? getFactory().invokeExact() : getFactory().invokeExact(value);
+        } catch (Throwable error) {
+            throw new IllegalStateException("Cannot create tag of " + tagClass, error);
+        }
+    }
+
+    private MethodHandle getFactory() {
+        MethodHandle factory = this.factory;
+
+        if (factory == null) {
+            synchronized (this) {
+                factory = this.factory;
+                if (factory == null) {
+                    factory = resolveFactory();
+                    // Handles are adapted to Objects, so they can be invoked exactly.
+                    this.factory = factory = factory.asType(MethodType.genericMethodType(parameterTypes.length));
+                }
+            }
+        }
+
+        return factory;
+    }
+
+    private MethodHandle resolveFactory() {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            if (!constructorOnly) {
+                Method factoryMethod = findFactoryMethod();
+                if (factoryMethod != null) {
+                    factoryMethod.setAccessible(true);
+                    return lookup.unreflect(factoryMethod);
+                }
+            }
+
+            Constructor<?> constructor = tagClass.getDeclaredConstructor(parameterTypes);
+            constructor.setAccessible(true);
+            return lookup.unreflectConstructor(constructor);
+        } catch (Exception ex) {
+            PluginDebugger.debug(ex);
+            throw new IllegalStateException("Cannot find a factory for " + tagClass, ex);
+        }
+    }
+
+    @Nullable
+    private Method findFactoryMethod() {
+        try {
+            Method method = tagClass.getDeclaredMethod("a", parameterTypes);
+            return Modifier.isStatic(method.getModifiers()) && method.getReturnType() == tagClass ? method : null;
+        } catch (NoSuchMethodException ex) {
+            return null;
+        }
+    }
+
+}
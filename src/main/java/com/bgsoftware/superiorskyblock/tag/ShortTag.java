@@ -47,9 +47,10 @@ import java.io.IOException;
 public final class ShortTag extends Tag<Short> {
 
     protected static final Class<?> CLASS = getNNTClass("NBTTagShort");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, short.class);
 
     public ShortTag(short value) {
-        super(value, CLASS, short.class);
+        super(value, FACTORY);
     }
 
     public static ShortTag fromNBT(Object tag) {
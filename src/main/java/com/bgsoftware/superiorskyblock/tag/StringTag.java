@@ -48,6 +48,7 @@ import java.nio.charset.StandardCharsets;
 public final class StringTag extends Tag<String> {
 
     protected static final Class<?> CLASS = getNNTClass("NBTTagString");
+    private static final NMSTagFactory FACTORY = NMSTagFactory.of(CLASS, String.class);
 
     /**
      * Creates the tag.
@@ -55,7 +56,7 @@ public final class StringTag extends Tag<String> {
      * @param value The value.
      */
     public StringTag(String value) {
-        super(value, CLASS, String.class);
+        super(value, FACTORY);
     }
 
     public static StringTag fromNBT(Object tag) {
@@ -32,16 +32,18 @@ POSSIBILITY OF SUCH DAMAGE.
  */
 package com.bgsoftware.superiorskyblock.tag;
 
-import com.bgsoftware.common.reflection.ReflectConstructor;
-import com.bgsoftware.common.reflection.ReflectMethod;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.utils.ServerVersion;
 import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
 import org.bukkit.Bukkit;
 
+import javax.annotation.Nullable;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Represents a single NBT tag.
@@ -52,43 +54,45 @@ public abstract class Tag<E> {
 
     protected static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
 
-    protected final ReflectMethod<Object> A;
-    protected final ReflectConstructor<Object> CONSTRUCTOR;
+    @Nullable
+    private final NMSTagFactory factory;
     protected final E value;
 
-    protected Tag(E value, Class<?> clazz, Class<?>... parameterTypes) {
+    protected Tag(E value, @Nullable NMSTagFactory factory) {
         this.value = value;
-        this.A = new ReflectMethod<>(clazz, clazz, "a", parameterTypes);
-        this.CONSTRUCTOR = new ReflectConstructor<>(clazz, parameterTypes);
+        this.factory = factory;
     }
 
     public static Tag<?> fromNBT(Object tag) {
-        if (tag.getClass().equals(ByteArrayTag.CLASS))
-            return ByteArrayTag.fromNBT(tag);
-        else if (tag.getClass().equals(ByteTag.CLASS))
-            return ByteTag.fromNBT(tag);
-        else if (tag.getClass().equals(CompoundTag.CLASS))
-            return CompoundTag.fromNBT(tag);
-        else if (tag.getClass().equals(DoubleTag.CLASS))
-            return DoubleTag.fromNBT(tag);
-        else if (tag.getClass().equals(EndTag.CLASS))
-            return new EndTag();
-        else if (tag.getClass().equals(FloatTag.CLASS))
-            return FloatTag.fromNBT(tag);
-        else if (tag.getClass().equals(IntArrayTag.CLASS))
-            return IntArrayTag.fromNBT(tag);
-        else if (tag.getClass().equals(IntTag.CLASS))
-            return IntTag.fromNBT(tag);
-        else if (tag.getClass().equals(ListTag.CLASS))
-            return ListTag.fromNBT(tag);
-        else if (tag.getClass().equals(LongTag.CLASS))
-            return LongTag.fromNBT(tag);
-        else if (tag.getClass().equals(ShortTag.CLASS))
-            return ShortTag.fromNBT(tag);
-        else if (tag.getClass().equals(StringTag.CLASS))
-            return StringTag.fromNBT(tag);
-
-        throw new IllegalArgumentException("Cannot convert " + tag.getClass() + " to Tag!");
+        Function<Object, Tag<?>> converter = NBTConverters.CONVERTERS.get(tag.getClass());
+
+        if (converter == null)
+            throw new IllegalArgumentException("Cannot convert " + tag.getClass() + " to Tag!");
+
+        return converter.apply(tag);
+    }
+
+    private static Map<Class<?>, Function<Object, Tag<?>>> createNBTConverters() {
+        Map<Class<?>, Function<Object, Tag<?>>> converters = new HashMap<>();
+        registerNBTConverter(converters, ByteArrayTag.CLASS, ByteArrayTag::fromNBT);
+        registerNBTConverter(converters, ByteTag.CLASS, ByteTag::fromNBT);
+        registerNBTConverter(converters, CompoundTag.CLASS, CompoundTag::fromNBT);
+        registerNBTConverter(converters, DoubleTag.CLASS, DoubleTag::fromNBT);
+        registerNBTConverter(converters, EndTag.CLASS, tag -> new EndTag());
+        registerNBTConverter(converters, FloatTag.CLASS, FloatTag::fromNBT);
+        registerNBTConverter(converters, IntArrayTag.CLASS, IntArrayTag::fromNBT);
+        registerNBTConverter(converters, IntTag.CLASS, IntTag::fromNBT);
+        registerNBTConverter(converters, ListTag.CLASS, ListTag::fromNBT);
+        registerNBTConverter(converters, LongTag.CLASS, LongTag::fromNBT);
+        registerNBTConverter(converters, ShortTag.CLASS, ShortTag::fromNBT);
+        registerNBTConverter(converters, StringTag.CLASS, StringTag::fromNBT);
+        return converters;
+    }
+
+    private static void registerNBTConverter(Map<Class<?>, Function<Object, Tag<?>>> converters,
+                                             @Nullable Class<?> nbtClass, Function<Object, Tag<?>> converter) {
+        if (nbtClass != null)
+            converters.put(nbtClass, converter);
     }
 
     public static Tag<?> fromStream(DataInputStream is, int depth) throws IOException {
@@ -166,11 +170,20 @@ public abstract class Tag<E> {
     protected abstract void writeData(DataOutputStream outputStream) throws IOException;
 
     public Object toNBT() {
-        if (A.isValid()) {
-            return A.invoke(null, value);
-        } else {
-            return CONSTRUCTOR.newInstance(value);
-        }
+        if (factory == null)
+            throw new UnsupportedOperationException("Cannot convert " + getClass() + " to NBT!");
+
+        return factory.create(value);
+    }
+
+    /**
+     * Converters of NMS tags by their classes.
+     * The converters are created when first used, after the classes of all the tags are resolved.
+     */
+    private static final class NBTConverters {
+
+        private static final Map<Class<?>, Function<Object, Tag<?>>> CONVERTERS = createNBTConverters();
+
     }
 
 }
\ No newline at end of file
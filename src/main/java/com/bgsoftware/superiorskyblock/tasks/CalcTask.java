@@ -34,7 +34,7 @@ public final class CalcTask extends BukkitRunnable {
             plugin.getGrid().calcAllIslands(() -> {
                 announceToPlayers(true);
                 announceToOps("&7&o[SuperiorSkyblock] Calculating islands done!");
-            });
+            }, false);
         }
     }
 
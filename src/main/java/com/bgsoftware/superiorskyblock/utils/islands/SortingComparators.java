@@ -38,7 +38,7 @@ public final class SortingComparators {
         return totalRatingsCompare;
     };
     public final static Comparator<Island> PLAYERS_COMPARATOR = (o1, o2) -> {
-        int compare = Integer.compare(o2.getAllPlayersInside().size(), o1.getAllPlayersInside().size());
+        int compare = Integer.compare(o2.getAllPlayersInsideAmount(), o1.getAllPlayersInsideAmount());
         return compare == 0 ? ISLAND_NAMES_COMPARATOR.compare(o1, o2) : compare;
     };
 
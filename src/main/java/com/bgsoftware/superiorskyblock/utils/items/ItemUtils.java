@@ -23,6 +23,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.math.BigInteger;
+import java.util.Base64;
 import java.util.Map;
 
 public final class ItemUtils {
@@ -32,6 +33,9 @@ public final class ItemUtils {
     private static final ReflectMethod<ItemStack> GET_ITEM_IN_OFF_HAND = new ReflectMethod<>(PlayerInventory.class, "getItemInOffHand");
     private static final ReflectMethod<ItemStack> SET_ITEM_IN_OFF_HAND = new ReflectMethod<>(PlayerInventory.class, "setItemInOffHand", ItemStack.class);
 
+    // Prefix of Base64 serialized items. Items that were serialized before are base-32 numbers, which never contain ':'.
+    private static final String BASE64_PREFIX = "b64:";
+
     private ItemUtils() {
 
     }
@@ -121,7 +125,7 @@ public final class ItemUtils {
             return "";
         }
 
-        return new BigInteger(1, outputStream.toByteArray()).toString(32);
+        return encode(outputStream.toByteArray());
     }
 
     public static String serializeItem(ItemStack itemStack) {
@@ -136,14 +140,14 @@ public final class ItemUtils {
             return "";
         }
 
-        return new BigInteger(1, outputStream.toByteArray()).toString(32);
+        return encode(outputStream.toByteArray());
     }
 
     public static ItemStack[] deserialize(String serialized) {
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(new BigInteger(serialized, 32).toByteArray());
         CompoundTag compoundTag;
 
         try {
+            ByteArrayInputStream inputStream = new ByteArrayInputStream(decode(serialized));
             compoundTag = (CompoundTag) Tag.fromStream(new DataInputStream(inputStream), 0);
         } catch (Exception ex) {
             ex.printStackTrace();
@@ -164,9 +168,8 @@ public final class ItemUtils {
 
     public static ItemStack deserializeItem(String serialized) {
         if (serialized.length() > 0) {
-            ByteArrayInputStream inputStream = new ByteArrayInputStream(new BigInteger(serialized, 32).toByteArray());
-
             try {
+                ByteArrayInputStream inputStream = new ByteArrayInputStream(decode(serialized));
                 CompoundTag compoundTag = (CompoundTag) Tag.fromStream(new DataInputStream(inputStream), 0);
                 return TagUtils.compoundToItem(compoundTag);
             } catch (Exception ex) {
@@ -182,4 +185,15 @@ public final class ItemUtils {
         return !itemStack.getType().isBlock() && itemStack.getType().name().contains(ServerVersion.isLegacy() ? "MONSTER_EGG" : "SPAWN_EGG");
     }
 
+    private static String encode(byte[] bytes) {
+        return BASE64_PREFIX + Base64.getEncoder().encodeToString(bytes);
+    }
+
+    private static byte[] decode(String serialized) {
+        // Serialized items are saved in the new format when their holders are saved again.
+        return serialized.startsWith(BASE64_PREFIX) ?
+                Base64.getDecoder().decode(serialized.substring(BASE64_PREFIX.length())) :
+                new BigInteger(serialized, 32).toByteArray();
+    }
+
 }
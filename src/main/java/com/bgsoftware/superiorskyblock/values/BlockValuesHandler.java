@@ -3,6 +3,7 @@ package com.bgsoftware.superiorskyblock.values;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.handlers.BlockValuesManager;
 import com.bgsoftware.superiorskyblock.api.key.CustomKeyParser;
+import com.bgsoftware.superiorskyblock.engine.ArithmeticExpression;
 import com.bgsoftware.superiorskyblock.handler.AbstractHandler;
 import com.bgsoftware.superiorskyblock.key.Key;
 import com.bgsoftware.superiorskyblock.key.dataset.KeyMap;
@@ -19,12 +20,16 @@ import javax.script.Bindings;
 import javax.script.ScriptException;
 import javax.script.SimpleBindings;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public final class BlockValuesHandler extends AbstractHandler implements BlockValuesManager {
 
     private static final Bindings bindings = createBindings();
+    // Prices of prices-providers may be changed at any time, therefore values that are synced with them expire.
+    private static final long SYNCED_VALUES_EXPIRE_TIME = TimeUnit.MINUTES.toMillis(1);
 
     private static final KeyMap<CustomKeyParser> customKeyParsers = new KeyMap<>();
     private static final KeySet valuesMenuBlocks = new KeySet();
@@ -35,6 +40,10 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
     private final BlockValuesContainer customBlockWorthValues;
     private final BlockValuesContainer customBlockLevels;
 
+    // Resolved values of blocks, indexed by the ids of their keys.
+    private volatile CompiledBlockValue[] compiledValues = new CompiledBlockValue[0];
+    private volatile CompiledLevelFormula compiledLevelFormula = null;
+
     public BlockValuesHandler(SuperiorSkyblockPlugin plugin,
                               BlockValuesContainer blockWorthValuesContainer,
                               BlockValuesContainer blockLevelsContainer,
@@ -61,12 +70,17 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
         this.blockWorthValues.loadDefaultValues(plugin);
         this.blockLevels.loadDefaultValues(plugin);
         convertValuesToLevels();
+
+        clearCachedValues();
     }
 
     @Override
     public BigDecimal getBlockWorth(com.bgsoftware.superiorskyblock.api.key.Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        return key instanceof Key ? getCompiledValue((Key) key).worth : resolveBlockWorth(key);
+    }
 
+    private BigDecimal resolveBlockWorth(com.bgsoftware.superiorskyblock.api.key.Key key) {
         BigDecimal customBlockValue = customBlockWorthValues.getBlockValue(key);
         if (customBlockValue != null) {
             PluginDebugger.debug("Action: Get Worth, Block: " + key + " - Custom Block Worth, Worth: " + customBlockValue);
@@ -103,7 +117,10 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
     @Override
     public BigDecimal getBlockLevel(com.bgsoftware.superiorskyblock.api.key.Key key) {
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
+        return key instanceof Key ? getCompiledValue((Key) key).level : resolveBlockLevel(key);
+    }
 
+    private BigDecimal resolveBlockLevel(com.bgsoftware.superiorskyblock.api.key.Key key) {
         BigDecimal customBlockLevel = customBlockLevels.getBlockValue(key);
         if (customBlockLevel != null) {
             PluginDebugger.debug("Action: Get Level, Block: " + key + " - Custom Block Level, Level: " + customBlockLevel);
@@ -113,7 +130,7 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
         BigDecimal level = blockLevels.getBlockValue(key);
 
         if (level == null) {
-            level = convertValueToLevel(getBlockWorth(key));
+            level = convertValueToLevel(resolveBlockWorth(key));
             blockLevels.setBlockValue(key, level);
             PluginDebugger.debug("Action: Get Level, Block: " + key + " - Converted From Worth, Level: " + level);
         } else {
@@ -128,8 +145,13 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
         Preconditions.checkNotNull(key, "key parameter cannot be null.");
 
         Key convertedKey = (Key) key;
+        CompiledBlockValue compiledValue = getCompiledValue(convertedKey);
+
+        return convertedKey.isAPIKey() ? compiledValue.valuesKey : compiledValue.blockKey;
+    }
 
-        if (convertedKey.isAPIKey() || isValuesMenu(convertedKey)) {
+    private Key resolveBlockKey(Key convertedKey) {
+        if (isValuesMenu(convertedKey)) {
             return getValuesKey(convertedKey);
         } else if (customBlockKeys.contains(convertedKey)) {
             return customBlockKeys.getKey(convertedKey);
@@ -145,7 +167,7 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
                 }
             }
 
-            return blockWorthValues.containsKey(key) ? blockWorthValues.getBlockValueKey(convertedKey) :
+            return blockWorthValues.containsKey(convertedKey) ? blockWorthValues.getBlockValueKey(convertedKey) :
                     blockLevels.getBlockValueKey(convertedKey);
         }
     }
@@ -159,6 +181,7 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
         if (levelValue != null && !customBlockLevels.hasBlockValue(key)) {
             customBlockLevels.setBlockValue(key, levelValue);
         }
+        clearCachedValues();
     }
 
     @Override
@@ -171,7 +194,8 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
     }
 
     public void registerMenuValueBlocks(KeySet blocks) {
-        valuesMenuBlocks.addAll(blocks);
+        if (valuesMenuBlocks.addAll(blocks))
+            clearCachedValues();
     }
 
     public boolean isValuesMenu(com.bgsoftware.superiorskyblock.api.key.Key key) {
@@ -183,11 +207,22 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
     }
 
     public void addCustomBlockKey(com.bgsoftware.superiorskyblock.api.key.Key key) {
-        customBlockKeys.add(key);
+        if (customBlockKeys.add(key))
+            clearCachedValues();
     }
 
     public void addCustomBlockKeys(Collection<com.bgsoftware.superiorskyblock.api.key.Key> blocks) {
-        customBlockKeys.addAll(blocks);
+        if (customBlockKeys.addAll(blocks))
+            clearCachedValues();
+    }
+
+    public boolean hasCustomKeyParser(Key key) {
+        return customKeyParsers.containsKey(key);
+    }
+
+    @Override
+    public synchronized void clearCachedValues() {
+        this.compiledValues = new CompiledBlockValue[this.compiledValues.length];
     }
 
     public Key convertKey(Key original, Location location) {
@@ -231,9 +266,26 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
     }
 
     public BigDecimal convertValueToLevel(BigDecimal value) {
+        String levelFormula = plugin.getSettings().getIslandLevelFormula();
+        CompiledLevelFormula compiledLevelFormula = this.compiledLevelFormula;
+
+        if (compiledLevelFormula == null || !compiledLevelFormula.formula.equals(levelFormula))
+            this.compiledLevelFormula = compiledLevelFormula = new CompiledLevelFormula(levelFormula);
+
+        if (compiledLevelFormula.expression != null) {
+            double level = compiledLevelFormula.expression.evaluate(value.doubleValue());
+
+            // Checking for division by 0
+            if (Double.isInfinite(level) || Double.isNaN(level))
+                return BigDecimal.ZERO;
+
+            // Integral results are kept without a fraction, the same as the script engine returns them.
+            return level == Math.rint(level) && Math.abs(level) < Long.MAX_VALUE ?
+                    BigDecimal.valueOf((long) level) : new BigDecimal(Double.toString(level));
+        }
+
         try {
-            Object obj = plugin.getScriptEngine().eval(plugin.getSettings().getIslandLevelFormula()
-                    .replace("{}", value.toString()), bindings);
+            Object obj = plugin.getScriptEngine().eval(levelFormula.replace("{}", value.toString()), bindings);
 
             // Checking for division by 0
             if (obj.equals(Double.POSITIVE_INFINITY) || obj.equals(Double.NEGATIVE_INFINITY))
@@ -247,6 +299,33 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
         }
     }
 
+    private CompiledBlockValue getCompiledValue(Key key) {
+        int id = key.getId();
+        CompiledBlockValue[] compiledValues = this.compiledValues;
+        CompiledBlockValue compiledValue = id < compiledValues.length ? compiledValues[id] : null;
+
+        if (compiledValue == null || compiledValue.hasExpired()) {
+            long expireTime = plugin.getSettings().getSyncWorth() == SyncWorthStatus.NONE ? Long.MAX_VALUE :
+                    System.currentTimeMillis() + SYNCED_VALUES_EXPIRE_TIME;
+            compiledValue = new CompiledBlockValue(this, key, expireTime);
+            storeCompiledValue(compiledValues, id, compiledValue);
+        }
+
+        return compiledValue;
+    }
+
+    private synchronized void storeCompiledValue(CompiledBlockValue[] compiledValues, int id, CompiledBlockValue compiledValue) {
+        // The values were cleared while the value was resolved, therefore it may be outdated.
+        if (compiledValues != this.compiledValues)
+            return;
+
+        if (id >= compiledValues.length)
+            compiledValues = Arrays.copyOf(compiledValues, Math.max(id + 1, compiledValues.length * 2));
+
+        compiledValues[id] = compiledValue;
+        this.compiledValues = compiledValues;
+    }
+
     private void convertValuesToLevels() {
         for (Map.Entry<com.bgsoftware.superiorskyblock.api.key.Key, BigDecimal> entry : blockWorthValues.getBlockValues()) {
             if (!blockLevels.hasBlockValue(entry.getKey())) {
@@ -255,4 +334,41 @@ public final class BlockValuesHandler extends AbstractHandler implements BlockVa
         }
     }
 
+    private static final class CompiledBlockValue {
+
+        private final BigDecimal worth;
+        private final BigDecimal level;
+        private final Key blockKey;
+        private final Key valuesKey;
+        private final long expireTime;
+
+        CompiledBlockValue(BlockValuesHandler blockValuesHandler, Key key, long expireTime) {
+            // The worth is resolved first, as prices-providers may cache block keys when resolving prices.
+            this.worth = blockValuesHandler.resolveBlockWorth(key);
+            this.level = blockValuesHandler.resolveBlockLevel(key);
+            this.blockKey = blockValuesHandler.resolveBlockKey(key);
+            this.valuesKey = blockValuesHandler.getValuesKey(key);
+            this.expireTime = expireTime;
+        }
+
+        boolean hasExpired() {
+            return expireTime != Long.MAX_VALUE && System.currentTimeMillis() > expireTime;
+        }
+
+    }
+
+    private static final class CompiledLevelFormula {
+
+        private final String formula;
+        @Nullable
+        private final ArithmeticExpression expression;
+
+        CompiledLevelFormula(String formula) {
+            this.formula = formula;
+            // Formulas that cannot be compiled are evaluated by the script engine.
+            this.expression = ArithmeticExpression.compile(formula);
+        }
+
+    }
+
 }
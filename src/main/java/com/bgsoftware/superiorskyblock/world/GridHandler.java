@@ -17,6 +17,7 @@ import com.bgsoftware.superiorskyblock.database.bridge.IslandsDatabaseBridge;
 import com.bgsoftware.superiorskyblock.database.cache.CachedIslandInfo;
 import com.bgsoftware.superiorskyblock.database.cache.DatabaseCache;
 import com.bgsoftware.superiorskyblock.handler.AbstractHandler;
+import com.bgsoftware.superiorskyblock.island.SIslandChest;
 import com.bgsoftware.superiorskyblock.island.SIslandPreview;
 import com.bgsoftware.superiorskyblock.island.spawn.SpawnIsland;
 import com.bgsoftware.superiorskyblock.lang.Message;
@@ -29,7 +30,9 @@ import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
 import com.bgsoftware.superiorskyblock.utils.events.EventsCaller;
 import com.bgsoftware.superiorskyblock.utils.islands.IslandUtils;
 import com.bgsoftware.superiorskyblock.world.algorithm.DefaultIslandCreationAlgorithm;
+import com.bgsoftware.superiorskyblock.world.calculation.IslandsCalculationQueue;
 import com.bgsoftware.superiorskyblock.world.chunks.ChunkPosition;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkEntitiesTracker;
 import com.bgsoftware.superiorskyblock.world.chunks.ChunksTracker;
 import com.bgsoftware.superiorskyblock.world.preview.IslandPreviews;
 import com.bgsoftware.superiorskyblock.world.purge.IslandsPurger;
@@ -65,6 +68,7 @@ public final class GridHandler extends AbstractHandler implements GridManager {
     private final IslandsPurger islandsPurger;
     private final IslandPreviews islandPreviews;
     private final IslandsContainer islandsContainer;
+    private final IslandsCalculationQueue islandsCalculationQueue = new IslandsCalculationQueue();
     private DatabaseBridge databaseBridge;
     private IslandCreationAlgorithm islandCreationAlgorithm;
 
@@ -94,6 +98,7 @@ public final class GridHandler extends AbstractHandler implements GridManager {
         this.lastIsland = SBlockPosition.of(plugin.getSettings().getWorlds().getDefaultWorldName(), 0, 100, 0);
         Executor.sync(this::updateSpawn);
         Executor.timer(plugin.getNMSDragonFight()::tickBattles, 1L);
+        Executor.timer(SIslandChest::unloadIdleChests, SIslandChest.UNLOAD_CHECK_INTERVAL);
     }
 
     public void updateSpawn() {
@@ -311,6 +316,7 @@ public final class GridHandler extends AbstractHandler implements GridManager {
         plugin.getNMSDragonFight().removeDragonBattle(island);
 
         ChunksTracker.removeIsland(island);
+        ChunkEntitiesTracker.removeIsland(island);
     }
 
     @Override
@@ -367,25 +373,10 @@ public final class GridHandler extends AbstractHandler implements GridManager {
         if (chunk == null)
             return null;
 
-        Island island;
-
-        Location corner = chunk.getBlock(0, 100, 0).getLocation();
-        if ((island = getIslandAt(corner)) != null)
-            return island;
-
-        corner = chunk.getBlock(15, 100, 0).getLocation();
-        if ((island = getIslandAt(corner)) != null)
-            return island;
-
-        corner = chunk.getBlock(0, 100, 15).getLocation();
-        if ((island = getIslandAt(corner)) != null)
-            return island;
-
-        corner = chunk.getBlock(15, 100, 15).getLocation();
-        if ((island = getIslandAt(corner)) != null)
-            return island;
+        if (spawnIsland != null && spawnIsland.isInsideRange(chunk))
+            return spawnIsland;
 
-        return null;
+        return this.islandsContainer.getIslandAt(chunk);
     }
 
     @Override
@@ -501,19 +492,19 @@ public final class GridHandler extends AbstractHandler implements GridManager {
 
     @Override
     public void calcAllIslands(Runnable callback) {
-        PluginDebugger.debug("Action: Calculate All Islands");
-        List<Island> islands = new ArrayList<>();
-
-        {
-            for (Island island : this.islandsContainer.getIslandsUnsorted()) {
-                if (!island.isBeingRecalculated())
-                    islands.add(island);
-            }
-        }
+        calcAllIslands(callback, true);
+    }
 
-        for (int i = 0; i < islands.size(); i++) {
-            islands.get(i).calcIslandWorth(null, i + 1 < islands.size() ? null : callback);
-        }
+    /**
+     * Calculate the worth of all the islands on the server.
+     *
+     * @param callback        Runnable that will be ran when process is finished.
+     * @param fullCalculation Whether all the islands should be scanned.
+     *                        If false, islands that don't require a full calculation use their tracked block counts.
+     */
+    public void calcAllIslands(@Nullable Runnable callback, boolean fullCalculation) {
+        PluginDebugger.debug("Action: Calculate All Islands, Full Calculation: " + fullCalculation);
+        this.islandsCalculationQueue.calcIslands(this.islandsContainer.getIslandsUnsorted(), fullCalculation, callback);
     }
 
     @Override
@@ -665,6 +656,9 @@ public final class GridHandler extends AbstractHandler implements GridManager {
         if (!modifiedIslands.isEmpty())
             modifiedIslands.forEach(IslandsDatabaseBridge::executeFutureSaves);
 
+        ChunksTracker.savePendingDirtyChunks();
+        ChunkEntitiesTracker.savePendingEntityCounts();
+
         getIslands().forEach(Island::removeEffects);
     }
 
@@ -0,0 +1,154 @@
+package com.bgsoftware.superiorskyblock.world.calculation;
+
+import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.api.wrappers.SuperiorPlayer;
+import com.bgsoftware.superiorskyblock.island.SIsland;
+import com.bgsoftware.superiorskyblock.threads.Executor;
+import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public final class IslandsCalculationQueue {
+
+    private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
+
+    private static final int MAX_RUNNING_CALCULATIONS = 10;
+    private static final long TICK_TIME_BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int PROGRESS_REPORT_PERCENTAGE = 25;
+    // Calculations that don't finish in this time are no longer waited for.
+    private static final long CALCULATION_TIMEOUT = TimeUnit.MINUTES.toNanos(5);
+
+    private final Deque<Island> pendingIslands = new ArrayDeque<>();
+    private final Set<Island> queuedIslands = new HashSet<>();
+    private final Map<Island, Long> runningCalculations = new HashMap<>();
+    private final List<Runnable> callbacks = new ArrayList<>();
+
+    private BukkitTask tickTask;
+    private int totalIslands = 0;
+    private int finishedIslands = 0;
+    private int lastReportedProgress = 0;
+
+    public void calcIslands(Collection<Island> islands, boolean fullCalculation, @Nullable Runnable callback) {
+        if (!Bukkit.isPrimaryThread()) {
+            Executor.sync(() -> calcIslands(islands, fullCalculation, callback));
+            return;
+        }
+
+        for (Island island : islands) {
+            if (fullCalculation)
+                island.markForFullCalculation();
+
+            if (island.isBeingRecalculated() || !queuedIslands.add(island))
+                continue;
+
+            // Islands with online members are calculated first.
+            if (hasOnlineMembers(island)) {
+                pendingIslands.addFirst(island);
+            } else {
+                pendingIslands.addLast(island);
+            }
+
+            ++totalIslands;
+        }
+
+        if (callback != null)
+            callbacks.add(callback);
+
+        PluginDebugger.debug("Action: Queue Calculations, Islands: " + pendingIslands.size());
+
+        if (tickTask == null)
+            tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    private void tick() {
+        // Calculations are started until the time budget of the tick is used.
+        long tickStartTime = System.nanoTime();
+
+        runningCalculations.entrySet().removeIf(entry -> {
+            Island island = entry.getKey();
+
+            if (island.isBeingRecalculated()) {
+                if (tickStartTime - entry.getValue() < CALCULATION_TIMEOUT)
+                    return false;
+
+                SuperiorSkyblockPlugin.log("&cCalculation of the island of " + island.getOwner().getName() +
+                        " did not finish in time, skipping it.");
+
+                // Otherwise, the island would be considered as being recalculated forever.
+                if (island instanceof SIsland)
+                    ((SIsland) island).resetCalculation();
+            }
+
+            ++finishedIslands;
+            return true;
+        });
+
+        while (!pendingIslands.isEmpty() && runningCalculations.size() < MAX_RUNNING_CALCULATIONS &&
+                System.nanoTime() - tickStartTime < TICK_TIME_BUDGET) {
+            Island island = pendingIslands.poll();
+            queuedIslands.remove(island);
+
+            // The island may have been disbanded or calculated by other sources while waiting in the queue.
+            if (!island.isBeingRecalculated() && plugin.getGrid().getIslandByUUID(island.getUniqueId()) == island) {
+                if (!(island instanceof SIsland) || !((SIsland) island).calcIslandWorthByTrackedCounts())
+                    island.calcIslandWorth(null);
+            }
+
+            if (island.isBeingRecalculated()) {
+                runningCalculations.put(island, System.nanoTime());
+            } else {
+                ++finishedIslands;
+            }
+        }
+
+        reportProgress();
+
+        if (pendingIslands.isEmpty() && runningCalculations.isEmpty())
+            finish();
+    }
+
+    private static boolean hasOnlineMembers(Island island) {
+        return island.getIslandMembers(true).stream().anyMatch(SuperiorPlayer::isOnline);
+    }
+
+    private void reportProgress() {
+        if (totalIslands <= 0)
+            return;
+
+        int progress = (finishedIslands * 100 / totalIslands) / PROGRESS_REPORT_PERCENTAGE * PROGRESS_REPORT_PERCENTAGE;
+
+        if (progress > lastReportedProgress && progress < 100) {
+            lastReportedProgress = progress;
+            PluginDebugger.debug("Action: Calculations Progress, Progress: " + progress + "% (" + finishedIslands + "/" + totalIslands + ")");
+        }
+    }
+
+    private void finish() {
+        tickTask.cancel();
+        tickTask = null;
+
+        PluginDebugger.debug("Action: Finish Calculations, Islands: " + finishedIslands);
+
+        totalIslands = 0;
+        finishedIslands = 0;
+        lastReportedProgress = 0;
+
+        List<Runnable> callbacks = new ArrayList<>(this.callbacks);
+        this.callbacks.clear();
+        callbacks.forEach(Runnable::run);
+    }
+
+}
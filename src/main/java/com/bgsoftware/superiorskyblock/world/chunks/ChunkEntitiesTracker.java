@@ -0,0 +1,197 @@
+package com.bgsoftware.superiorskyblock.world.chunks;
+
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import com.bgsoftware.superiorskyblock.database.bridge.IslandsDatabaseBridge;
+import com.bgsoftware.superiorskyblock.island.SIsland;
+import com.bgsoftware.superiorskyblock.key.Key;
+import com.bgsoftware.superiorskyblock.threads.Executor;
+import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
+import com.bgsoftware.superiorskyblock.utils.entities.EntityUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.bukkit.entity.Entity;
+
+import javax.annotation.Nullable;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the amount of limited entities in every chunk of the islands.
+ * The counts of a chunk are kept after it is unloaded, so its entities still count towards the limits
+ * of the island, and are saved so they are kept after restarts as well.
+ * The entities of a chunk are recounted whenever they are loaded or unloaded, which corrects entities that
+ * were removed without an event, such as despawned entities.
+ */
+public final class ChunkEntitiesTracker {
+
+    // The delay, in ticks, before saving entity counts, so all the chunks that are unloaded meanwhile are saved at once.
+    private static final long SAVE_DELAY = 20L;
+
+    private static final Map<Island, Map<ChunkPosition, Map<Key, Integer>>> chunksEntities = new ConcurrentHashMap<>();
+    private static final Set<Island> pendingSaves = ConcurrentHashMap.newKeySet();
+    private static final Gson gson = new GsonBuilder().create();
+
+    private ChunkEntitiesTracker() {
+
+    }
+
+    public static void trackEntity(Island island, Entity entity) {
+        if (canHaveLimit(entity))
+            addEntityCount(island, ChunkPosition.of(entity.getLocation()), Key.of(entity), 1);
+    }
+
+    public static void untrackEntity(Island island, Entity entity) {
+        if (!(island instanceof SIsland) || !canHaveLimit(entity))
+            return;
+
+        Map<ChunkPosition, Map<Key, Integer>> islandChunks = chunksEntities.get(island);
+
+        if (islandChunks == null)
+            return;
+
+        Key entityKey = Key.of(entity);
+        Map<Key, Integer> entityCounts = islandChunks.get(ChunkPosition.of(entity.getLocation()));
+
+        // Entities can move between chunks, so the entity may be counted in another chunk of the island.
+        if (entityCounts == null || !entityCounts.containsKey(entityKey)) {
+            entityCounts = islandChunks.values().stream()
+                    .filter(chunkCounts -> chunkCounts.containsKey(entityKey))
+                    .findFirst().orElse(null);
+
+            if (entityCounts == null)
+                return;
+        }
+
+        entityCounts.computeIfPresent(entityKey, (key, amount) -> amount <= 1 ? null : amount - 1);
+        updateTrackedCount(island, entityKey, -1);
+    }
+
+    /**
+     * Replace the counts of a chunk with the entities that are in it.
+     *
+     * @param island        The island of the chunk.
+     * @param chunkPosition The position of the chunk.
+     * @param entities      All the entities of the chunk.
+     * @param save          Whether the counts should be saved into the database.
+     */
+    public static void recountEntities(Island island, ChunkPosition chunkPosition, Collection<Entity> entities, boolean save) {
+        if (!(island instanceof SIsland))
+            return;
+
+        Map<Key, Integer> newCounts = new HashMap<>();
+
+        for (Entity entity : entities) {
+            if (canHaveLimit(entity))
+                newCounts.merge(Key.of(entity), 1, Integer::sum);
+        }
+
+        Map<ChunkPosition, Map<Key, Integer>> islandChunks = chunksEntities.computeIfAbsent(island, i -> new ConcurrentHashMap<>());
+        Map<Key, Integer> oldCounts = newCounts.isEmpty() ? islandChunks.remove(chunkPosition) :
+                islandChunks.put(chunkPosition, newCounts);
+
+        if (oldCounts == null && newCounts.isEmpty())
+            return;
+
+        if (oldCounts != null)
+            oldCounts.forEach((entityKey, amount) -> updateTrackedCount(island, entityKey, -amount));
+
+        newCounts.forEach((entityKey, amount) -> updateTrackedCount(island, entityKey, amount));
+
+        if (save)
+            saveEntityCounts(island);
+    }
+
+    public static void removeIsland(Island island) {
+        chunksEntities.remove(island);
+        pendingSaves.remove(island);
+    }
+
+    public static String serialize(Island island) {
+        Map<ChunkPosition, Map<Key, Integer>> islandChunks = chunksEntities.get(island);
+
+        if (islandChunks == null || islandChunks.isEmpty())
+            return "";
+
+        JsonObject worldsObject = new JsonObject();
+
+        islandChunks.forEach((chunkPosition, entityCounts) -> {
+            JsonObject worldObject = worldsObject.getAsJsonObject(chunkPosition.getWorldName());
+            if (worldObject == null) {
+                worldObject = new JsonObject();
+                worldsObject.add(chunkPosition.getWorldName(), worldObject);
+            }
+
+            JsonObject countsObject = new JsonObject();
+            entityCounts.forEach((entityKey, amount) -> countsObject.addProperty(entityKey.toString(), amount));
+            worldObject.add(chunkPosition.getX() + "," + chunkPosition.getZ(), countsObject);
+        });
+
+        return gson.toJson(worldsObject);
+    }
+
+    public static void deserialize(Island island, @Nullable String serialized) {
+        if (serialized == null || serialized.isEmpty())
+            return;
+
+        try {
+            JsonObject worldsObject = gson.fromJson(serialized, JsonObject.class);
+            worldsObject.entrySet().forEach(worldEntry -> worldEntry.getValue().getAsJsonObject().entrySet().forEach(chunkEntry -> {
+                String[] chunkPositionSections = chunkEntry.getKey().split(",");
+                ChunkPosition chunkPosition = ChunkPosition.of(worldEntry.getKey(),
+                        Integer.parseInt(chunkPositionSections[0]), Integer.parseInt(chunkPositionSections[1]));
+
+                chunkEntry.getValue().getAsJsonObject().entrySet().forEach(countEntry ->
+                        addEntityCount(island, chunkPosition, Key.of(countEntry.getKey()), countEntry.getValue().getAsInt()));
+            }));
+        } catch (Exception error) {
+            PluginDebugger.debug(error);
+        }
+    }
+
+    /**
+     * Save the entity counts of all the islands that are waiting to be saved.
+     */
+    public static void savePendingEntityCounts() {
+        for (Island island : pendingSaves)
+            savePendingEntityCounts(island);
+    }
+
+    private static void addEntityCount(Island island, ChunkPosition chunkPosition, Key entityKey, int amount) {
+        if (!(island instanceof SIsland) || amount <= 0)
+            return;
+
+        chunksEntities.computeIfAbsent(island, i -> new ConcurrentHashMap<>())
+                .computeIfAbsent(chunkPosition, c -> new HashMap<>())
+                .merge(entityKey, amount, Integer::sum);
+
+        updateTrackedCount(island, entityKey, amount);
+    }
+
+    private static void updateTrackedCount(Island island, Key entityKey, int amount) {
+        if (amount > 0) {
+            ((SIsland) island).getEntitiesTracker().trackEntity(entityKey, BigInteger.valueOf(amount));
+        } else if (amount < 0) {
+            ((SIsland) island).getEntitiesTracker().untrackEntity(entityKey, BigInteger.valueOf(-amount));
+        }
+    }
+
+    private static boolean canHaveLimit(Entity entity) {
+        return EntityUtils.canHaveLimit(entity.getType()) && !EntityUtils.canBypassEntityLimit(entity);
+    }
+
+    private static void saveEntityCounts(Island island) {
+        if (pendingSaves.add(island))
+            Executor.sync(() -> savePendingEntityCounts(island), SAVE_DELAY);
+    }
+
+    private static void savePendingEntityCounts(Island island) {
+        if (pendingSaves.remove(island))
+            IslandsDatabaseBridge.saveEntityCounts(island);
+    }
+
+}
@@ -3,7 +3,7 @@ package com.bgsoftware.superiorskyblock.world.chunks;
 import com.bgsoftware.superiorskyblock.SuperiorSkyblockPlugin;
 import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.database.bridge.IslandsDatabaseBridge;
-import com.bgsoftware.superiorskyblock.database.serialization.IslandsSerializer;
+import com.bgsoftware.superiorskyblock.threads.Executor;
 import com.bgsoftware.superiorskyblock.utils.debug.PluginDebugger;
 import com.bgsoftware.superiorskyblock.world.GridHandler;
 import com.google.gson.Gson;
@@ -19,14 +19,22 @@ import org.bukkit.World;
 import org.bukkit.block.Block;
 
 import javax.annotation.Nullable;
-import java.util.HashSet;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.util.Base64;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 public final class ChunksTracker {
 
-    private static final Map<Island, Set<ChunkPosition>> dirtyChunks = new ConcurrentHashMap<>();
+    // Prefix of serialized bitmaps, which distinguishes them from the older JSON and plain text formats.
+    private static final String BINARY_PREFIX = "b64:";
+    // The delay, in ticks, before saving dirty chunks, so all the chunks that are marked meanwhile are saved at once.
+    private static final long SAVE_DELAY = 20L;
+
+    private static final Map<Island, IslandDirtyChunks> dirtyChunks = new ConcurrentHashMap<>();
+    private static final Set<Island> pendingSaves = ConcurrentHashMap.newKeySet();
     private static final SuperiorSkyblockPlugin plugin = SuperiorSkyblockPlugin.getPlugin();
     private static final Gson gson = new GsonBuilder().create();
 
@@ -58,27 +66,49 @@ public final class ChunksTracker {
         markDirty(island, ChunkPosition.of(block.getWorld(), block.getX() >> 4, block.getZ() >> 4), save);
     }
 
-    public static void markDirty(Island island, Chunk chunk, boolean save) {
-        markDirty(island, ChunkPosition.of(chunk.getWorld(), chunk.getX(), chunk.getZ()), save);
+    public static boolean markDirty(Island island, Chunk chunk, boolean save) {
+        return markDirty(island, ChunkPosition.of(chunk.getWorld(), chunk.getX(), chunk.getZ()), save);
     }
 
     public static boolean isMarkedDirty(Island island, World world, int x, int z) {
-        return dirtyChunks.containsKey(island) && dirtyChunks.get(island).contains(ChunkPosition.of(world, x, z));
+        IslandDirtyChunks islandDirtyChunks = dirtyChunks.get(island);
+        return islandDirtyChunks != null && islandDirtyChunks.contains(world.getName(), x, z);
     }
 
     public static void removeIsland(Island island) {
-        if (dirtyChunks.containsKey(island)) {
-            dirtyChunks.get(island).clear();
-            dirtyChunks.remove(island);
-        }
+        dirtyChunks.remove(island);
+        pendingSaves.remove(island);
     }
 
     public static String serialize(Island island) {
-        Set<ChunkPosition> dirtyChunks = ChunksTracker.dirtyChunks.getOrDefault(island, new HashSet<>());
-        return IslandsSerializer.serializeDirtyChunks(dirtyChunks);
+        IslandDirtyChunks islandDirtyChunks = dirtyChunks.get(island);
+
+        if (islandDirtyChunks == null)
+            return "";
+
+        try {
+            return BINARY_PREFIX + Base64.getEncoder().encodeToString(islandDirtyChunks.serialize());
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            PluginDebugger.debug(ex);
+            return "";
+        }
+    }
+
+    /**
+     * Save the dirty chunks of all the islands that are waiting to be saved.
+     */
+    public static void savePendingDirtyChunks() {
+        for (Island island : pendingSaves)
+            savePendingDirtyChunks(island);
     }
 
     public static void deserialize(GridHandler grid, Island island, @Nullable String serialized) {
+        if (serialized != null && serialized.startsWith(BINARY_PREFIX)) {
+            deserializeBinary(island, serialized);
+            return;
+        }
+
         try {
             if (serialized == null || serialized.isEmpty()) throw new JsonSyntaxException("");
             JsonObject dirtyChunksObject = gson.fromJson(serialized, JsonObject.class);
@@ -107,6 +137,16 @@ public final class ChunksTracker {
         }
     }
 
+    private static void deserializeBinary(Island island, String serialized) {
+        try {
+            byte[] bytes = Base64.getDecoder().decode(serialized.substring(BINARY_PREFIX.length()));
+            for (ChunkPosition chunkPosition : IslandDirtyChunks.deserialize(new DataInputStream(new ByteArrayInputStream(bytes))))
+                markDirty(island, chunkPosition, false);
+        } catch (Exception error) {
+            PluginDebugger.debug(error);
+        }
+    }
+
     private static void deserializeOldV2(GridHandler grid, Island island, String serialized) {
         try {
             String[] dirtyChunkSections = serialized.split(";");
@@ -153,15 +193,32 @@ public final class ChunksTracker {
         if (island == null)
             island = getIsland(plugin.getGrid(), chunkPosition);
 
-        if (dirtyChunks.containsKey(island) && dirtyChunks.get(island).remove(chunkPosition) && save)
-            IslandsDatabaseBridge.saveDirtyChunks(island);
+        IslandDirtyChunks islandDirtyChunks = dirtyChunks.get(island);
+
+        if (islandDirtyChunks != null && islandDirtyChunks.remove(chunkPosition) && save)
+            saveDirtyChunks(island);
     }
 
-    public static void markDirty(Island island, ChunkPosition chunkPosition, boolean save) {
+    public static boolean markDirty(Island island, ChunkPosition chunkPosition, boolean save) {
         if (island == null)
             island = getIsland(plugin.getGrid(), chunkPosition);
 
-        if (dirtyChunks.computeIfAbsent(island, s -> new HashSet<>()).add(chunkPosition) && save && !island.isSpawn())
+        if (!dirtyChunks.computeIfAbsent(island, IslandDirtyChunks::new).add(chunkPosition))
+            return false;
+
+        if (save && !island.isSpawn())
+            saveDirtyChunks(island);
+
+        return true;
+    }
+
+    private static void saveDirtyChunks(Island island) {
+        if (pendingSaves.add(island))
+            Executor.sync(() -> savePendingDirtyChunks(island), SAVE_DELAY);
+    }
+
+    private static void savePendingDirtyChunks(Island island) {
+        if (pendingSaves.remove(island))
             IslandsDatabaseBridge.saveDirtyChunks(island);
     }
 
@@ -0,0 +1,186 @@
+package com.bgsoftware.superiorskyblock.world.chunks;
+
+import com.bgsoftware.superiorskyblock.api.island.Island;
+import org.bukkit.Location;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The dirty chunks of an island.
+ * Chunks are stored as bitmaps of the chunks around the center of the island, one for every world.
+ * Chunks that are too far from the center are stored by their positions.
+ */
+final class IslandDirtyChunks {
+
+    private static final byte SERIALIZATION_VERSION = 1;
+    // The maximum radius of chunks around the center that are stored in the bitmaps.
+    private static final int MAX_BITMAP_RADIUS = 64;
+
+    private final Map<String, BitSet> bitmaps = new HashMap<>();
+    private final Set<ChunkPosition> outsideChunks = new HashSet<>();
+    private final int minChunkX;
+    private final int minChunkZ;
+    private final int width;
+
+    IslandDirtyChunks(Island island) {
+        Location minimum;
+        Location maximum;
+
+        try {
+            minimum = island.getMinimum();
+            maximum = island.getMaximum();
+        } catch (RuntimeException error) {
+            // The worlds of the island are not available, all chunks are stored by their positions.
+            this.minChunkX = 0;
+            this.minChunkZ = 0;
+            this.width = 0;
+            return;
+        }
+
+        int centerChunkX = (minimum.getBlockX() + maximum.getBlockX()) >> 5;
+        int centerChunkZ = (minimum.getBlockZ() + maximum.getBlockZ()) >> 5;
+        int radius = Math.min(MAX_BITMAP_RADIUS, Math.max(0, centerChunkX - (minimum.getBlockX() >> 4)) + 1);
+        this.minChunkX = centerChunkX - radius;
+        this.minChunkZ = centerChunkZ - radius;
+        this.width = radius * 2 + 1;
+    }
+
+    synchronized boolean add(ChunkPosition chunkPosition) {
+        int index = getIndex(chunkPosition.getX(), chunkPosition.getZ());
+
+        if (index < 0)
+            return outsideChunks.add(chunkPosition);
+
+        BitSet bitmap = bitmaps.computeIfAbsent(chunkPosition.getWorldName(), w -> new BitSet());
+
+        if (bitmap.get(index))
+            return false;
+
+        bitmap.set(index);
+        return true;
+    }
+
+    synchronized boolean remove(ChunkPosition chunkPosition) {
+        int index = getIndex(chunkPosition.getX(), chunkPosition.getZ());
+
+        if (index < 0)
+            return outsideChunks.remove(chunkPosition);
+
+        BitSet bitmap = bitmaps.get(chunkPosition.getWorldName());
+
+        if (bitmap == null || !bitmap.get(index))
+            return false;
+
+        bitmap.clear(index);
+        return true;
+    }
+
+    synchronized boolean contains(String worldName, int chunkX, int chunkZ) {
+        int index = getIndex(chunkX, chunkZ);
+
+        if (index < 0)
+            return outsideChunks.contains(ChunkPosition.of(worldName, chunkX, chunkZ));
+
+        BitSet bitmap = bitmaps.get(worldName);
+        return bitmap != null && bitmap.get(index);
+    }
+
+    /**
+     * Serialize the dirty chunks into bytes.
+     * The bitmaps are written with their origins, so they can be read even if the size of islands was changed.
+     */
+    synchronized byte[] serialize() throws IOException {
+        Map<String, List<ChunkPosition>> outsideChunksByWorlds = new HashMap<>();
+        for (ChunkPosition chunkPosition : outsideChunks)
+            outsideChunksByWorlds.computeIfAbsent(chunkPosition.getWorldName(), w -> new ArrayList<>()).add(chunkPosition);
+
+        Set<String> worlds = new HashSet<>(outsideChunksByWorlds.keySet());
+        bitmaps.forEach((worldName, bitmap) -> {
+            if (!bitmap.isEmpty())
+                worlds.add(worldName);
+        });
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream dataOutput = new DataOutputStream(outputStream);
+
+        dataOutput.writeByte(SERIALIZATION_VERSION);
+        dataOutput.writeInt(minChunkX);
+        dataOutput.writeInt(minChunkZ);
+        dataOutput.writeInt(width);
+        dataOutput.writeInt(worlds.size());
+
+        for (String worldName : worlds) {
+            dataOutput.writeUTF(worldName);
+
+            BitSet bitmap = bitmaps.get(worldName);
+            long[] words = bitmap == null ? new long[0] : bitmap.toLongArray();
+            dataOutput.writeInt(words.length);
+            for (long word : words)
+                dataOutput.writeLong(word);
+
+            List<ChunkPosition> worldOutsideChunks = outsideChunksByWorlds.get(worldName);
+            dataOutput.writeInt(worldOutsideChunks == null ? 0 : worldOutsideChunks.size());
+            if (worldOutsideChunks != null) {
+                for (ChunkPosition chunkPosition : worldOutsideChunks) {
+                    dataOutput.writeInt(chunkPosition.getX());
+                    dataOutput.writeInt(chunkPosition.getZ());
+                }
+            }
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * Read dirty chunks that were written by {@link #serialize()}.
+     *
+     * @return The positions of the dirty chunks.
+     */
+    static List<ChunkPosition> deserialize(DataInputStream dataInput) throws IOException {
+        List<ChunkPosition> chunkPositions = new ArrayList<>();
+
+        byte version = dataInput.readByte();
+        if (version != SERIALIZATION_VERSION)
+            throw new IOException("Unknown version of dirty chunks: " + version);
+
+        int minChunkX = dataInput.readInt();
+        int minChunkZ = dataInput.readInt();
+        int width = dataInput.readInt();
+        int worldsCount = dataInput.readInt();
+
+        for (int i = 0; i < worldsCount; i++) {
+            String worldName = dataInput.readUTF();
+
+            long[] words = new long[dataInput.readInt()];
+            for (int j = 0; j < words.length; j++)
+                words[j] = dataInput.readLong();
+
+            BitSet bitmap = BitSet.valueOf(words);
+            for (int index = bitmap.nextSetBit(0); index >= 0; index = bitmap.nextSetBit(index + 1))
+                chunkPositions.add(ChunkPosition.of(worldName, minChunkX + index % width, minChunkZ + index / width));
+
+            int outsideChunksCount = dataInput.readInt();
+            for (int j = 0; j < outsideChunksCount; j++)
+                chunkPositions.add(ChunkPosition.of(worldName, dataInput.readInt(), dataInput.readInt()));
+        }
+
+        return chunkPositions;
+    }
+
+    private int getIndex(int chunkX, int chunkZ) {
+        int offsetX = chunkX - minChunkX;
+        int offsetZ = chunkZ - minChunkZ;
+        return offsetX < 0 || offsetZ < 0 || offsetX >= width || offsetZ >= width ? -1 : offsetZ * width + offsetX;
+    }
+
+}
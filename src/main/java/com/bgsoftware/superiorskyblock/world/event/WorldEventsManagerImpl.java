@@ -5,6 +5,9 @@ import com.bgsoftware.superiorskyblock.api.island.Island;
 import com.bgsoftware.superiorskyblock.api.world.event.WorldEventsManager;
 import com.bgsoftware.superiorskyblock.module.BuiltinModules;
 import com.bgsoftware.superiorskyblock.module.upgrades.type.UpgradeTypeCropGrowth;
+import com.bgsoftware.superiorskyblock.utils.ServerVersion;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkEntitiesTracker;
+import com.bgsoftware.superiorskyblock.world.chunks.ChunkPosition;
 import com.bgsoftware.superiorskyblock.world.chunks.ChunksTracker;
 import com.google.common.base.Preconditions;
 import org.bukkit.Chunk;
@@ -12,8 +15,15 @@ import org.bukkit.Location;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Entity;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 public final class WorldEventsManagerImpl implements WorldEventsManager {
 
+    // Since 1.17, entities are loaded separately from their chunks and are recounted by EntitiesListener.
+    private static final boolean TRACK_CHUNK_ENTITIES = ServerVersion.isLessThan(ServerVersion.v1_17);
+
     private final SuperiorSkyblockPlugin plugin;
 
     public WorldEventsManagerImpl(SuperiorSkyblockPlugin plugin) {
@@ -45,16 +55,25 @@ public final class WorldEventsManagerImpl implements WorldEventsManager {
         if (cropGrowthEnabled && island.isInsideRange(chunk))
             plugin.getNMSChunks().startTickingChunk(island, chunk, false);
 
-        if (!plugin.getNMSChunks().isChunkEmpty(chunk))
-            ChunksTracker.markDirty(island, chunk, true);
+        // Blocks in a chunk that was not tracked before were changed outside the plugin.
+        if (!plugin.getNMSChunks().isChunkEmpty(chunk) && ChunksTracker.markDirty(island, chunk, true))
+            island.markForFullCalculation();
+
+        List<Entity> chunkEntities = new ArrayList<>();
 
-        // We want to delete old holograms of stacked blocks
         for (Entity entity : chunk.getEntities()) {
+            // We want to delete old holograms of stacked blocks
             if (entity instanceof ArmorStand && isHologram((ArmorStand) entity) &&
-                    plugin.getStackedBlocks().getStackedBlockAmount(entity.getLocation().subtract(0, 1, 0)) > 1)
+                    plugin.getStackedBlocks().getStackedBlockAmount(entity.getLocation().subtract(0, 1, 0)) > 1) {
                 entity.remove();
+            } else {
+                chunkEntities.add(entity);
+            }
         }
 
+        if (TRACK_CHUNK_ENTITIES)
+            ChunkEntitiesTracker.recountEntities(island, ChunkPosition.of(chunk), chunkEntities, false);
+
         plugin.getStackedBlocks().updateStackedBlockHolograms(chunk);
     }
 
@@ -75,8 +94,13 @@ public final class WorldEventsManagerImpl implements WorldEventsManager {
         if (BuiltinModules.UPGRADES.isUpgradeTypeEnabled(UpgradeTypeCropGrowth.class))
             plugin.getNMSChunks().startTickingChunk(island, chunk, true);
 
-        if (!island.isSpawn() && !plugin.getNMSChunks().isChunkEmpty(chunk))
-            ChunksTracker.markDirty(island, chunk, true);
+        // The counts of the chunk are kept after it is unloaded, so its entities still count towards the limits.
+        if (TRACK_CHUNK_ENTITIES && !island.isSpawn())
+            ChunkEntitiesTracker.recountEntities(island, ChunkPosition.of(chunk), Arrays.asList(chunk.getEntities()), true);
+
+        if (!island.isSpawn() && !plugin.getNMSChunks().isChunkEmpty(chunk) &&
+                ChunksTracker.markDirty(island, chunk, true))
+            island.markForFullCalculation();
     }
 
 }
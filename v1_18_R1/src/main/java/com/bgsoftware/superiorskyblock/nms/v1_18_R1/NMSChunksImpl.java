@@ -21,6 +21,7 @@ import com.bgsoftware.superiorskyblock.nms.v1_18_R1.mapping.nbt.NBTTagList;
 import com.bgsoftware.superiorskyblock.nms.v1_18_R1.mapping.network.PlayerConnection;
 import com.bgsoftware.superiorskyblock.nms.v1_18_R1.mapping.tags.TagsBlock;
 import com.bgsoftware.superiorskyblock.nms.v1_18_R1.mapping.world.entity.Entity;
+import com.bgsoftware.superiorskyblock.nms.v1_18_R1.mapping.world.phys.AxisAlignedBB;
 import com.bgsoftware.superiorskyblock.threads.Executor;
 import com.bgsoftware.superiorskyblock.world.chunks.CalculatedChunk;
 import com.bgsoftware.superiorskyblock.world.chunks.ChunkPosition;
@@ -63,7 +64,9 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -78,34 +81,82 @@ public final class NMSChunksImpl implements NMSChunks {
         KeyMap<Integer> blockCounts = new KeyMap<>();
         Set<Location> spawnersLocations = new HashSet<>();
 
+        // Block states are shared instances, therefore they can be cached by identity for the whole chunk.
+        Map<IBlockData, Key> cachedKeys = new IdentityHashMap<>();
+        Set<IBlockData> positionedStates = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        // The wrappers are reused for all the sections and blocks of the chunk.
+        ChunkSection chunkSection = new ChunkSection((net.minecraft.world.level.chunk.ChunkSection) null);
+        BlockData blockData = new BlockData(null);
+        Block block = new Block(null);
+
         for (net.minecraft.world.level.chunk.ChunkSection nmsSection : chunkSections) {
-            ChunkSection chunkSection = ChunkSection.ofNullable(nmsSection);
-            if (chunkSection != null) {
-                for (BlockPosition blockPosition : BlockPosition.allBlocksBetween(0, 0, 0, 15, 15, 15)) {
-                    BlockData blockData = chunkSection.getType(blockPosition.getX(), blockPosition.getY(), blockPosition.getZ());
-                    Block block = blockData.getBlock();
-
-                    if (block.getHandle() != Blocks.a) {
-                        Location location = new Location(chunkPosition.getWorld(),
-                                (chunkPosition.getX() << 4) + blockPosition.getX(),
-                                chunkSection.getYPosition() + blockPosition.getY(),
-                                (chunkPosition.getZ() << 4) + blockPosition.getZ());
-
-                        int blockAmount = 1;
-
-                        if ((TagsBlock.isTagged(TagsBlock.SLABS, block) || TagsBlock.isTagged(TagsBlock.WOODEN_SLABS, block)) &&
-                                blockData.get(BlockStepAbstract.a) == BlockPropertySlabType.c) {
-                            blockAmount = 2;
-                            blockData = blockData.set(BlockStepAbstract.a, BlockPropertySlabType.b);
-                        }
+            if (nmsSection == null)
+                continue;
 
-                        Material type = CraftMagicNumbers.getMaterial(blockData.getBlock().getHandle());
-                        Key blockKey = Key.of(type.name() + "", "", location);
-                        blockCounts.put(blockKey, blockCounts.getOrDefault(blockKey, 0) + blockAmount);
-                        if (type == Material.SPAWNER) {
-                            spawnersLocations.add(location);
-                        }
+            chunkSection.setHandle(nmsSection);
+
+            if (chunkSection.isEmpty())
+                continue;
+
+            Set<IBlockData> sectionPositionedStates = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            // We count the blocks by their palette entries, and only convert each state to a key once.
+            chunkSection.countBlocks((blockState, amount) -> {
+                blockData.setHandle(blockState);
+                blockData.getBlock(block);
+
+                if (block.getHandle() == Blocks.a)
+                    return;
+
+                if (positionedStates.contains(blockState)) {
+                    sectionPositionedStates.add(blockState);
+                    return;
+                }
+
+                Key blockKey = cachedKeys.get(blockState);
+
+                if (blockKey == null) {
+                    Material type = CraftMagicNumbers.getMaterial(block.getHandle());
+                    blockKey = Key.of(type.name() + "", "");
+
+                    // Spawners and blocks with custom key parsers must be calculated with their locations.
+                    if (type == Material.SPAWNER || plugin.getBlockValues().hasCustomKeyParser(blockKey)) {
+                        positionedStates.add(blockState);
+                        sectionPositionedStates.add(blockState);
+                        return;
                     }
+
+                    cachedKeys.put(blockState, blockKey);
+                }
+
+                int blockAmount = isDoubleSlab(blockData, block) ? amount * 2 : amount;
+                blockCounts.put(blockKey, blockCounts.getRaw(blockKey, 0) + blockAmount);
+            });
+
+            if (sectionPositionedStates.isEmpty())
+                continue;
+
+            for (BlockPosition blockPosition : BlockPosition.allBlocksBetween(0, 0, 0, 15, 15, 15)) {
+                chunkSection.getType(blockPosition.getX(), blockPosition.getY(), blockPosition.getZ(), blockData);
+
+                if (!sectionPositionedStates.contains(blockData.getHandle()))
+                    continue;
+
+                blockData.getBlock(block);
+
+                Location location = new Location(chunkPosition.getWorld(),
+                        (chunkPosition.getX() << 4) + blockPosition.getX(),
+                        chunkSection.getYPosition() + blockPosition.getY(),
+                        (chunkPosition.getZ() << 4) + blockPosition.getZ());
+
+                int blockAmount = isDoubleSlab(blockData, block) ? 2 : 1;
+
+                Material type = CraftMagicNumbers.getMaterial(block.getHandle());
+                Key blockKey = Key.of(type.name() + "", "", location);
+                blockCounts.put(blockKey, blockCounts.getRaw(blockKey, 0) + blockAmount);
+                if (type == Material.SPAWNER) {
+                    spawnersLocations.add(location);
                 }
             }
         }
@@ -113,6 +164,11 @@ public final class NMSChunksImpl implements NMSChunks {
         return new CalculatedChunk(chunkPosition, blockCounts, spawnersLocations);
     }
 
+    private static boolean isDoubleSlab(BlockData blockData, Block block) {
+        return (TagsBlock.isTagged(TagsBlock.SLABS, block) || TagsBlock.isTagged(TagsBlock.WOODEN_SLABS, block)) &&
+                blockData.get(BlockStepAbstract.a) == BlockPropertySlabType.c;
+    }
+
     private static void removeEntities(ChunkAccess chunk) {
         ChunkCoordIntPair chunkCoords = chunk.getPos();
         WorldServer worldServer = chunk.getWorld();
@@ -120,21 +176,20 @@ public final class NMSChunksImpl implements NMSChunks {
         int minBuildHeight = worldServer.getWorld().getMinHeight();
         int maxBuildHeight = worldServer.getWorld().getMaxHeight();
 
-        net.minecraft.world.phys.AxisAlignedBB chunkBounds = new net.minecraft.world.phys.AxisAlignedBB(
+        AxisAlignedBB chunkBounds = new AxisAlignedBB(new net.minecraft.world.phys.AxisAlignedBB(
                 chunkCoords.getX() << 4, minBuildHeight, chunkCoords.getZ() << 4,
-                chunkCoords.getX() << 4 + 15, maxBuildHeight, chunkCoords.getZ() << 4 + 15
-        );
-
-        List<Entity> worldEntities = new ArrayList<>();
-        worldServer.getEntities().getAll().forEach(nmsEntity -> {
-            Entity entity = new Entity(nmsEntity);
-            if (entity.getBoundingBox().intercepts(chunkBounds))
-                worldEntities.add(entity);
-        });
+                (chunkCoords.getX() << 4) + 16, maxBuildHeight, (chunkCoords.getZ() << 4) + 16
+        ));
+
+        // The wrapper is reused for all the entities of the chunk.
+        Entity entity = new Entity(null);
 
-        for (Entity worldEntity : worldEntities) {
-            if (!(worldEntity.getHandle() instanceof EntityHuman))
-                worldEntity.setRemoved(net.minecraft.world.entity.Entity.RemovalReason.b);
+        // Entities are looked up in the entity sections of the chunk, rather than in all the entities of the world.
+        for (net.minecraft.world.entity.Entity nmsEntity : worldServer.getEntities(net.minecraft.world.entity.Entity.class, chunkBounds)) {
+            if (!(nmsEntity instanceof EntityHuman)) {
+                entity.setHandle(nmsEntity);
+                entity.setRemoved(net.minecraft.world.entity.Entity.RemovalReason.b);
+            }
         }
     }
 
@@ -173,15 +228,19 @@ public final class NMSChunksImpl implements NMSChunks {
         NMSUtils.runActionOnChunks(worldServer, chunksCoords, true, null, chunk -> {
             ChunkCoordIntPair chunkCoords = chunk.getPos();
 
+            // The wrapper is reused for all the sections of the chunk.
+            ChunkSection currentSection = new ChunkSection((net.minecraft.world.level.chunk.ChunkSection) null);
+
             net.minecraft.world.level.chunk.ChunkSection[] chunkSections = chunk.getSections();
             for (int i = 0; i < chunkSections.length; ++i) {
-                ChunkSection currentSection = new ChunkSection(chunkSections[i]);
-                if (currentSection != null) {
-                    DataPaletteBlock<IBlockData> dataPaletteBlock = currentSection.getBlocks();
-                    chunkSections[i] = new net.minecraft.world.level.chunk.ChunkSection(
-                            currentSection.getYPosition() >> 4, dataPaletteBlock,
-                            new DataPaletteBlock<>(biomesRegistry, biomeBase, DataPaletteBlock.e.e));
-                }
+                if (chunkSections[i] == null)
+                    continue;
+
+                currentSection.setHandle(chunkSections[i]);
+                DataPaletteBlock<IBlockData> dataPaletteBlock = currentSection.getBlocks();
+                chunkSections[i] = new net.minecraft.world.level.chunk.ChunkSection(
+                        currentSection.getYPosition() >> 4, dataPaletteBlock,
+                        new DataPaletteBlock<>(biomesRegistry, biomeBase, DataPaletteBlock.e.e));
             }
 
             chunk.setNeedsSaving(true);
@@ -324,7 +383,8 @@ public final class NMSChunksImpl implements NMSChunks {
     @Override
     public CompletableFuture<List<CalculatedChunk>> calculateChunks(List<ChunkPosition> chunkPositions) {
         CompletableFuture<List<CalculatedChunk>> completableFuture = new CompletableFuture<>();
-        List<CalculatedChunk> allCalculatedChunks = new ArrayList<>();
+        // Unloaded chunks are calculated by multiple threads.
+        List<CalculatedChunk> allCalculatedChunks = Collections.synchronizedList(new ArrayList<>());
 
         List<ChunkCoordIntPair> chunksCoords = chunkPositions.stream()
                 .map(chunkPosition -> new ChunkCoordIntPair(chunkPosition.getX(), chunkPosition.getZ()))
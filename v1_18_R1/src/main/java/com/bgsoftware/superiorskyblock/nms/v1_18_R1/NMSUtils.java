@@ -34,14 +34,20 @@ import net.minecraft.world.level.chunk.ProtoChunk;
 import net.minecraft.world.level.levelgen.HeightMap;
 import org.bukkit.World;
 import org.bukkit.block.Biome;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 public final class NMSUtils {
@@ -50,6 +56,11 @@ public final class NMSUtils {
 
     private static final EnumMap<World.Environment, Biome> biomeEnumMap = new EnumMap<>(World.Environment.class);
 
+    // The maximum amount of region files that unloaded chunks are read from at the same time.
+    private static final int MAX_PARALLEL_REGIONS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    // The time, in nanoseconds, that saving unloaded chunks can take in each tick.
+    private static final long SAVE_CHUNKS_TICK_BUDGET = TimeUnit.MILLISECONDS.toNanos(10);
+
     private static final ReflectMethod<Void> SEND_PACKETS_TO_RELEVANT_PLAYERS = new ReflectMethod<>(
             PlayerChunk.class, 1, Packet.class, boolean.class);
 
@@ -116,47 +127,91 @@ public final class NMSUtils {
                                                  Runnable onFinish) {
         PlayerChunkMap playerChunkMap = worldServer.getChunkProvider().getPlayerChunkMap();
 
-        Executor.createTask().runAsync(v -> {
-            List<Pair<ChunkCoordIntPair, NBTTagCompound>> chunkCompounds = new ArrayList<>();
+        // Chunks are grouped by their region files, so each region file is only accessed by one thread.
+        Map<Long, List<ChunkCoordIntPair>> regionsChunks = new HashMap<>();
+        chunks.forEach(chunkCoords -> regionsChunks.computeIfAbsent(getRegionKey(chunkCoords),
+                regionKey -> new ArrayList<>()).add(chunkCoords));
 
-            chunks.forEach(chunkCoords -> {
-                try {
-                    NBTTagCompound chunkCompound = playerChunkMap.read(chunkCoords);
-
-                    if (chunkCompound == null) {
-                        ChunkAccess protoChunk = createProtoChunk(chunkCoords, worldServer);
-                        chunkCompound = worldServer.saveChunk(protoChunk);
-                    } else {
-                        chunkCompound = playerChunkMap.getChunkData(worldServer.getTypeKey(),
-                                Suppliers.ofInstance(worldServer.getWorldPersistentData()), chunkCompound,
-                                chunkCoords, worldServer.getHandle());
-                    }
+        Queue<List<ChunkCoordIntPair>> pendingRegions = new ConcurrentLinkedQueue<>(regionsChunks.values());
+        Queue<Pair<ChunkCoordIntPair, NBTTagCompound>> chunkCompounds = new ConcurrentLinkedQueue<>();
 
-                    UnloadedChunkCompound unloadedChunkCompound = new UnloadedChunkCompound(chunkCompound, chunkCoords);
-                    chunkConsumer.accept(unloadedChunkCompound);
+        int workersAmount = Math.min(MAX_PARALLEL_REGIONS, pendingRegions.size());
+        AtomicInteger runningWorkers = new AtomicInteger(workersAmount);
 
-                    if (saveChunks)
-                        chunkCompounds.add(new Pair<>(chunkCoords, chunkCompound));
-                } catch (Exception ex) {
-                    ex.printStackTrace();
-                    PluginDebugger.debug(ex);
-                }
-            });
+        if (workersAmount == 0) {
+            Executor.sync(() -> saveChunks(playerChunkMap, chunkCompounds, onFinish));
+            return;
+        }
 
-            return chunkCompounds;
-        }).runSync(chunkCompounds -> {
-            chunkCompounds.forEach(chunkCompoundPair -> {
-                try {
-                    playerChunkMap.saveChunk(chunkCompoundPair.getKey(), chunkCompoundPair.getValue());
-                } catch (IOException error) {
-                    error.printStackTrace();
-                    PluginDebugger.debug(error);
+        for (int i = 0; i < workersAmount; ++i) {
+            Executor.async(() -> {
+                List<ChunkCoordIntPair> regionChunks;
+                while ((regionChunks = pendingRegions.poll()) != null) {
+                    for (ChunkCoordIntPair chunkCoords : regionChunks) {
+                        NBTTagCompound chunkCompound = readChunk(worldServer, playerChunkMap, chunkCoords, chunkConsumer);
+                        if (saveChunks && chunkCompound != null)
+                            chunkCompounds.add(new Pair<>(chunkCoords, chunkCompound));
+                    }
                 }
+
+                if (runningWorkers.decrementAndGet() == 0)
+                    Executor.sync(() -> saveChunks(playerChunkMap, chunkCompounds, onFinish));
             });
+        }
+    }
 
-            if (onFinish != null)
-                onFinish.run();
-        });
+    @Nullable
+    private static NBTTagCompound readChunk(WorldServer worldServer, PlayerChunkMap playerChunkMap,
+                                            ChunkCoordIntPair chunkCoords,
+                                            Consumer<UnloadedChunkCompound> chunkConsumer) {
+        try {
+            NBTTagCompound chunkCompound = playerChunkMap.read(chunkCoords);
+
+            if (chunkCompound == null) {
+                ChunkAccess protoChunk = createProtoChunk(chunkCoords, worldServer);
+                chunkCompound = worldServer.saveChunk(protoChunk);
+            } else {
+                chunkCompound = playerChunkMap.getChunkData(worldServer.getTypeKey(),
+                        Suppliers.ofInstance(worldServer.getWorldPersistentData()), chunkCompound,
+                        chunkCoords, worldServer.getHandle());
+            }
+
+            UnloadedChunkCompound unloadedChunkCompound = new UnloadedChunkCompound(chunkCompound, chunkCoords);
+            chunkConsumer.accept(unloadedChunkCompound);
+
+            return chunkCompound;
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            PluginDebugger.debug(ex);
+            return null;
+        }
+    }
+
+    private static void saveChunks(PlayerChunkMap playerChunkMap,
+                                   Queue<Pair<ChunkCoordIntPair, NBTTagCompound>> chunkCompounds,
+                                   @Nullable Runnable onFinish) {
+        long saveDeadline = System.nanoTime() + SAVE_CHUNKS_TICK_BUDGET;
+        Pair<ChunkCoordIntPair, NBTTagCompound> chunkCompoundPair;
+
+        while (System.nanoTime() < saveDeadline && (chunkCompoundPair = chunkCompounds.poll()) != null) {
+            try {
+                playerChunkMap.saveChunk(chunkCompoundPair.getKey(), chunkCompoundPair.getValue());
+            } catch (IOException error) {
+                error.printStackTrace();
+                PluginDebugger.debug(error);
+            }
+        }
+
+        if (!chunkCompounds.isEmpty()) {
+            // The rest of the chunks are saved in the next tick, so the main thread is not held for too long.
+            Executor.sync(() -> saveChunks(playerChunkMap, chunkCompounds, onFinish), 1L);
+        } else if (onFinish != null) {
+            onFinish.run();
+        }
+    }
+
+    private static long getRegionKey(ChunkCoordIntPair chunkCoords) {
+        return ((long) (chunkCoords.getX() >> 5) << 32) | ((chunkCoords.getZ() >> 5) & 0xFFFFFFFFL);
     }
 
     public static ChunkAccess createProtoChunk(ChunkCoordIntPair chunkCoords, WorldServer worldServer) {
@@ -14,11 +14,16 @@ import net.minecraft.world.level.block.entity.TickingBlockEntity;
 import net.minecraft.world.level.block.entity.TileEntity;
 import net.minecraft.world.level.block.entity.TileEntityTypes;
 import net.minecraft.world.level.chunk.Chunk;
+import org.bukkit.Material;
 import org.bukkit.craftbukkit.v1_18_R1.util.CraftMagicNumbers;
 
 import java.lang.ref.WeakReference;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 
 public final class CropsTickingTileEntity extends TileEntity {
@@ -28,6 +33,10 @@ public final class CropsTickingTileEntity extends TileEntity {
     private static final Map<Long, CropsTickingTileEntity> tickingChunks = new HashMap<>();
     private static int random = ThreadLocalRandom.current().nextInt();
 
+    // The blocks of the crops to grow, compiled from the names in the settings when they are changed.
+    private static Set<net.minecraft.world.level.block.Block> cropsToGrow = Collections.emptySet();
+    private static List<String> cropsToGrowNames = null;
+
     private final WeakReference<Island> island;
     private final WeakReference<Chunk> chunk;
     private final int chunkX;
@@ -95,20 +104,30 @@ public final class CropsTickingTileEntity extends TileEntity {
 
         int chunkRandomTickSpeed = (int) (worldRandomTick * cropGrowth * plugin.getSettings().getCropsInterval());
 
-        if (chunkRandomTickSpeed > 0) {
+        Set<net.minecraft.world.level.block.Block> cropsToGrow = getCropsToGrow();
+
+        if (chunkRandomTickSpeed > 0 && !cropsToGrow.isEmpty()) {
+            // The wrappers are reused for all the sections and blocks of the chunk.
+            ChunkSection chunkSection = new ChunkSection((net.minecraft.world.level.chunk.ChunkSection) null);
+            BlockData blockData = new BlockData(null);
+            Block block = new Block(null);
+
             for (net.minecraft.world.level.chunk.ChunkSection nmsSection : chunk.getSections()) {
-                ChunkSection chunkSection = ChunkSection.ofNullable(nmsSection);
-                if (chunkSection != null && chunkSection.isRandomlyTicking()) {
+                if (nmsSection == null)
+                    continue;
+
+                chunkSection.setHandle(nmsSection);
+
+                if (chunkSection.isRandomlyTicking() && chunkSection.mayHaveAnyBlock(cropsToGrow)) {
                     for (int i = 0; i < chunkRandomTickSpeed; i++) {
                         random = random * 3 + 1013904223;
                         int factor = random >> 2;
                         int x = factor & 15;
                         int z = factor >> 8 & 15;
                         int y = factor >> 16 & 15;
-                        BlockData blockData = chunkSection.getType(x, y, z);
-                        Block block = blockData.getBlock();
-                        if (block.isTicking(blockData) && plugin.getSettings().getCropsToGrow().contains(
-                                CraftMagicNumbers.getMaterial(block.getHandle()).name())) {
+                        chunkSection.getType(x, y, z, blockData);
+                        blockData.getBlock(block);
+                        if (cropsToGrow.contains(block.getHandle()) && block.isTicking(blockData)) {
                             BlockPosition blockPosition = new BlockPosition(x + (chunkX << 4),
                                     y + chunkSection.getYPosition(), z + (chunkZ << 4));
                             blockData.randomTick(world, blockPosition, ThreadLocalRandom.current());
@@ -119,6 +138,25 @@ public final class CropsTickingTileEntity extends TileEntity {
         }
     }
 
+    private static Set<net.minecraft.world.level.block.Block> getCropsToGrow() {
+        List<String> cropsToGrowNames = plugin.getSettings().getCropsToGrow();
+
+        if (cropsToGrowNames != CropsTickingTileEntity.cropsToGrowNames) {
+            Set<net.minecraft.world.level.block.Block> cropsToGrow = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (String cropName : cropsToGrowNames) {
+                Material material = Material.getMaterial(cropName);
+                if (material != null && material.isBlock())
+                    cropsToGrow.add(CraftMagicNumbers.getBlock(material));
+            }
+
+            CropsTickingTileEntity.cropsToGrow = cropsToGrow;
+            CropsTickingTileEntity.cropsToGrowNames = cropsToGrowNames;
+        }
+
+        return cropsToGrow;
+    }
+
     private final record CropsTickingTileEntityTicker(
             CropsTickingTileEntity cropsTickingTileEntity) implements TickingBlockEntity {
 
@@ -27,6 +27,14 @@ public final class BlockData extends MappedObject<IBlockData> {
         return new Block(handle.b());
     }
 
+    /**
+     * Get the block of this state into an existing wrapper, so it can be reused in loops.
+     */
+    public Block getBlock(Block block) {
+        block.setHandle(handle.b());
+        return block;
+    }
+
     public Material getMaterial() {
         return new Material(handle.c());
     }
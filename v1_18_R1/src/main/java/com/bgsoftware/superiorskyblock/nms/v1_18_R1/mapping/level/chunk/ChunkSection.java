@@ -7,6 +7,8 @@ import net.minecraft.world.level.block.state.IBlockData;
 import net.minecraft.world.level.chunk.DataPaletteBlock;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Set;
+
 public final class ChunkSection extends MappedObject<net.minecraft.world.level.chunk.ChunkSection> {
 
     public ChunkSection(int chunkPos, DataPaletteBlock<IBlockData> blockStateContainer,
@@ -27,6 +29,10 @@ public final class ChunkSection extends MappedObject<net.minecraft.world.level.c
         return handle.i();
     }
 
+    public void countBlocks(DataPaletteBlock.a<IBlockData> counter) {
+        handle.i().a(counter);
+    }
+
     public DataPaletteBlock<BiomeBase> getBiomes() {
         return handle.j();
     }
@@ -39,6 +45,14 @@ public final class ChunkSection extends MappedObject<net.minecraft.world.level.c
         return new BlockData(handle.a(x, y, z));
     }
 
+    /**
+     * Get the block state at a position into an existing wrapper, so it can be reused in loops.
+     */
+    public BlockData getType(int x, int y, int z, BlockData blockData) {
+        blockData.setHandle(handle.a(x, y, z));
+        return blockData;
+    }
+
     public int getYPosition() {
         return handle.g();
     }
@@ -51,4 +65,13 @@ public final class ChunkSection extends MappedObject<net.minecraft.world.level.c
         return handle.c();
     }
 
+    /**
+     * Check whether the section may contain any of the given blocks, by the entries of its palette.
+     * Palettes always contain all the blocks of their sections, so sections that their palette has none of the
+     * blocks surely do not contain them. Global palettes contain all blocks, therefore they always may contain them.
+     */
+    public boolean mayHaveAnyBlock(Set<net.minecraft.world.level.block.Block> blocks) {
+        return handle.a(blockState -> blocks.contains(blockState.b()));
+    }
+
 }